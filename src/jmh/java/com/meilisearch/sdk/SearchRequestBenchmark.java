@@ -0,0 +1,94 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.json.JsonHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Compares the ways a SearchRequest can be turned into a request body */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchRequestBenchmark {
+    private SearchRequest request;
+    private JsonHandler jsonHandler;
+    private SearchTemplate template;
+    private ByteArrayOutputStream sink;
+
+    @Setup
+    public void setUp() {
+        request =
+                new SearchRequest("star wars", 20, 40)
+                        .setAttributesToRetrieve(new String[] {"id", "title", "poster"})
+                        .setAttributesToHighlight(new String[] {"title", "overview"})
+                        .setFilter(new String[] {"genres = Drama", "release_date > 1577836800"})
+                        .setFacets(new String[] {"genres", "language"})
+                        .setSort(new String[] {"release_date:desc"});
+        jsonHandler = new GsonJsonHandler();
+        template = new SearchTemplate(request);
+        sink = new ByteArrayOutputStream(1024);
+    }
+
+    /** org.json tree, as SearchRequest.toString() used to build it */
+    @Benchmark
+    public byte[] jsonObject() {
+        JSONObject jsonObject =
+                new JSONObject()
+                        .put("q", request.getQ())
+                        .put("offset", request.getOffset())
+                        .put("limit", request.getLimit())
+                        .put("attributesToRetrieve", request.getAttributesToRetrieve())
+                        .put("cropLength", request.getCropLength())
+                        .put("cropMarker", request.getCropMarker())
+                        .put("highlightPreTag", request.getHighlightPreTag())
+                        .put("highlightPostTag", request.getHighlightPostTag())
+                        .put("showMatchesPosition", request.isShowMatchesPosition())
+                        .put("facets", request.getFacets())
+                        .put("sort", request.getSort())
+                        .putOpt("attributesToCrop", request.getAttributesToCrop())
+                        .putOpt("attributesToHighlight", request.getAttributesToHighlight())
+                        .putOpt("filter", request.getFilter())
+                        .putOpt("filter", request.getFilterArray());
+        return jsonObject.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Reflection through the JsonHandler, as Search.rawSearch used to encode the body */
+    @Benchmark
+    public byte[] jsonHandler() throws MeilisearchException {
+        return jsonHandler.encode(request).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Direct writer used by Search.rawSearch */
+    @Benchmark
+    public byte[] directWriter() {
+        return request.toJsonBytes();
+    }
+
+    /** Whole request encoded per query, written out the way the HTTP client consumes a body */
+    @Benchmark
+    public int directWriterBody() throws IOException {
+        sink.reset();
+        HttpBody.json(request.toJsonBytes()).writeTo(sink);
+        return sink.size();
+    }
+
+    /** Only q, offset and limit encoded per query, shared members spliced from the template */
+    @Benchmark
+    public int templateBody() throws IOException {
+        sink.reset();
+        template.toBody(request.getQ(), request.getOffset(), request.getLimit()).writeTo(sink);
+        return sink.size();
+    }
+}
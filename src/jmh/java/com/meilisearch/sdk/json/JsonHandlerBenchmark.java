@@ -0,0 +1,109 @@
+package com.meilisearch.sdk.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.utils.Movie;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the JsonHandler implementations on the payloads of the movies test index: a search
+ * response of 20 hits, a page of documents and an ingest payload of the whole index
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonHandlerBenchmark {
+    @Param({"gson", "jackson"})
+    public String handler;
+
+    private JsonHandler jsonHandler;
+    private String searchResponse;
+    private String documentsResponse;
+    private List<Movie> documents;
+
+    @Setup
+    public void setUp() throws IOException, MeilisearchException {
+        switch (handler) {
+            case "gson":
+                jsonHandler = new GsonJsonHandler();
+                break;
+            case "jackson":
+                jsonHandler = new JacksonJsonHandler();
+                break;
+            default:
+                throw new IllegalArgumentException(handler);
+        }
+
+        JsonArray movies;
+        try (InputStream in = JsonHandlerBenchmark.class.getResourceAsStream("/movies.json");
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            movies = JsonParser.parseReader(reader).getAsJsonArray();
+        }
+
+        JsonArray hits = new JsonArray();
+        for (int i = 0; i < 20; i++) {
+            hits.add(movies.get(i));
+        }
+        JsonObject search = new JsonObject();
+        search.add("hits", hits);
+        search.addProperty("query", "the");
+        search.addProperty("processingTimeMs", 1);
+        search.addProperty("limit", 20);
+        search.addProperty("offset", 0);
+        search.addProperty("estimatedTotalHits", movies.size());
+        searchResponse = search.toString();
+
+        JsonObject page = new JsonObject();
+        page.add("results", movies);
+        page.addProperty("offset", 0);
+        page.addProperty("limit", movies.size());
+        page.addProperty("total", movies.size());
+        documentsResponse = page.toString();
+
+        documents = Arrays.asList(new Gson().fromJson(movies, Movie[].class));
+    }
+
+    /** Index.search */
+    @Benchmark
+    public SearchResult decodeSearchResult() throws MeilisearchException {
+        return jsonHandler.decode(searchResponse, SearchResult.class);
+    }
+
+    /** Index.getDocuments */
+    @Benchmark
+    public Results<Movie> decodeDocuments() throws MeilisearchException {
+        return jsonHandler.decode(documentsResponse, Results.class, Movie.class);
+    }
+
+    /** Index.addDocuments of objects */
+    @Benchmark
+    public String encodeDocuments() throws MeilisearchException {
+        return jsonHandler.encode(documents);
+    }
+
+    /** Request body of Index.addDocuments, as sent on the wire */
+    @Benchmark
+    public byte[] encodeDocumentsToBytes() throws MeilisearchException {
+        return jsonHandler.encodeToBytes(documents);
+    }
+}
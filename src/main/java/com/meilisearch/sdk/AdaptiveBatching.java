@@ -0,0 +1,164 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskDetails;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Tunes the batch size and the number of batches in flight from the processing of the tasks already
+ * enqueued
+ *
+ * <p>The throughput of a finished task is its indexed documents divided by its duration. The batch
+ * size keeps moving in the same direction while the throughput improves and turns back when it
+ * drops. The number of batches in flight grows by one while the server waits for batches and is
+ * halved when our tasks pile up in its queue, so that the backlog of enqueued tasks stays flat.
+ *
+ * <p>Tasks are polled from the thread preparing the batches, before each batch: the oldest
+ * unfinished task is fetched until one is still enqueued or processing.
+ */
+class AdaptiveBatching {
+
+    private final TasksHandler.TaskLookup tasks;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int maxInFlight;
+    private final ConcurrentSkipListSet<Integer> pending = new ConcurrentSkipListSet<Integer>();
+
+    // only used by the thread preparing the batches
+    private int batchSize;
+    private boolean growing = true;
+    private double lastThroughput;
+
+    // guarded by this
+    private int inFlight;
+    private int inFlightLimit = 1;
+
+    /**
+     * @param tasks fetches the tasks of the batches sent
+     * @param options batch options, {@code batchSize} is the initial batch size
+     */
+    AdaptiveBatching(TasksHandler.TaskLookup tasks, BatchOptions options) {
+        if (options.getMinBatchSize() <= 0
+                || options.getMinBatchSize() > options.getMaxBatchSize()) {
+            throw new IllegalArgumentException(
+                    "minBatchSize and maxBatchSize are not a valid range");
+        }
+        this.tasks = tasks;
+        this.minBatchSize = options.getMinBatchSize();
+        this.maxBatchSize = options.getMaxBatchSize();
+        this.maxInFlight = options.getMaxInFlight();
+        this.batchSize = clamp(options.getBatchSize(), minBatchSize, maxBatchSize);
+    }
+
+    /** @return source sizing each batch of the batcher from the tasks finished so far */
+    BatchUploader.Source source(DocumentBatcher batcher) {
+        return () -> {
+            update();
+            batcher.setBatchSize(batchSize);
+            return batcher.next();
+        };
+    }
+
+    /** @return sender holding back batches above the current in-flight limit */
+    BatchUploader.Sender sender(BatchUploader.Sender sender) {
+        return batch -> {
+            acquire();
+            try {
+                TaskInfo task = sender.send(batch);
+                pending.add(task.getTaskUid());
+                return task;
+            } finally {
+                release();
+            }
+        };
+    }
+
+    /**
+     * Fetches the oldest unfinished tasks and adjusts the batch size and the in-flight limit
+     *
+     * @throws MeilisearchException if a task cannot be fetched
+     */
+    void update() throws MeilisearchException {
+        while (!pending.isEmpty()) {
+            Integer taskUid = pending.first();
+            Task task = tasks.getTask(taskUid);
+            if (TasksHandler.ENQUEUED.equals(task.getStatus())
+                    || TasksHandler.PROCESSING.equals(task.getStatus())) {
+                adjustInFlight(pending.size());
+                return;
+            }
+            pending.remove(taskUid);
+            if (TasksHandler.SUCCEEDED.equals(task.getStatus())) {
+                observe(task);
+            }
+        }
+        adjustInFlight(0);
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    synchronized int getInFlightLimit() {
+        return inFlightLimit;
+    }
+
+    private void observe(Task task) {
+        TaskDetails details = task.getDetails();
+        if (details == null || details.getIndexedDocuments() <= 0 || task.getDuration() == null) {
+            return;
+        }
+        double seconds;
+        try {
+            seconds = Duration.parse(task.getDuration()).toNanos() / 1e9;
+        } catch (DateTimeParseException e) {
+            return;
+        }
+        if (seconds <= 0) {
+            return;
+        }
+        double throughput = details.getIndexedDocuments() / seconds;
+        if (lastThroughput > 0 && throughput < lastThroughput) {
+            growing = !growing;
+        }
+        lastThroughput = throughput;
+        int next = growing ? Math.max(batchSize + 1, batchSize * 3 / 2) : batchSize * 2 / 3;
+        batchSize = clamp(next, minBatchSize, maxBatchSize);
+    }
+
+    /** @param backlog number of our tasks not processed yet */
+    private synchronized void adjustInFlight(int backlog) {
+        if (backlog <= 1) {
+            inFlightLimit = Math.min(maxInFlight, inFlightLimit + 1);
+        } else if (backlog > 2 * inFlightLimit) {
+            inFlightLimit = Math.max(1, inFlightLimit / 2);
+        }
+        notifyAll();
+    }
+
+    private synchronized void acquire() throws MeilisearchException {
+        try {
+            while (inFlight >= inFlightLimit) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        }
+        inFlight++;
+    }
+
+    private synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,162 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends batches with a bounded number of requests in flight
+ *
+ * <p>The calling thread prepares the batches and blocks once {@code queueCapacity} of them are
+ * waiting for a free sender, so a slow server slows down the reading of the source instead of
+ * filling the memory.
+ *
+ * <p>With more than one sender, the requests may reach the server, and their tasks be enqueued, in
+ * another order than the batches.
+ */
+class BatchUploader {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /** Source of the batches to send */
+    interface Source {
+        /**
+         * @return the next batch, or null if there are no more batches
+         * @throws MeilisearchException if the batch cannot be prepared
+         */
+        byte[] next() throws MeilisearchException;
+    }
+
+    /** Sends one batch */
+    interface Sender {
+        /**
+         * @param batch batch returned by the source
+         * @return TaskInfo Meilisearch API response
+         * @throws MeilisearchException if an error occurs
+         */
+        TaskInfo send(byte[] batch) throws MeilisearchException;
+    }
+
+    private final Sender sender;
+    private final int maxInFlight;
+    private final int queueCapacity;
+
+    /**
+     * @param sender sends one batch, called from several threads when {@code maxInFlight > 1}
+     * @param options batch options, only {@code maxInFlight} and {@code queueCapacity} are used
+     */
+    BatchUploader(Sender sender, BatchOptions options) {
+        if (options.getMaxInFlight() <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        if (options.getQueueCapacity() < 0) {
+            throw new IllegalArgumentException("queueCapacity must not be negative");
+        }
+        this.sender = sender;
+        this.maxInFlight = options.getMaxInFlight();
+        this.queueCapacity = options.getQueueCapacity();
+    }
+
+    /**
+     * Sends all the batches of a source
+     *
+     * <p>On the first failure no more batches are read, the batches not sent yet are dropped and
+     * the failure is thrown. Batches already sent are not rolled back.
+     *
+     * @param source batches to send
+     * @return the TaskInfo of every batch, in the order of the source
+     * @throws MeilisearchException if a batch cannot be prepared or sent
+     */
+    TaskInfo[] upload(Source source) throws MeilisearchException {
+        if (maxInFlight == 1) {
+            List<TaskInfo> tasks = new ArrayList<TaskInfo>();
+            for (byte[] batch = source.next(); batch != null; batch = source.next()) {
+                tasks.add(sender.send(batch));
+            }
+            return tasks.toArray(new TaskInfo[tasks.size()]);
+        }
+
+        ExecutorService executor =
+                new ThreadPoolExecutor(
+                        maxInFlight,
+                        maxInFlight,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<Runnable>(),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "meilisearch-batch-uploader-"
+                                                    + THREADS.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        Semaphore permits = new Semaphore(maxInFlight + queueCapacity);
+        AtomicReference<MeilisearchException> failure = new AtomicReference<>();
+        List<Future<TaskInfo>> futures = new ArrayList<Future<TaskInfo>>();
+        try {
+            while (true) {
+                // a permit is taken before the batch is prepared to bound the batches in memory
+                permits.acquire();
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                final byte[] body = source.next();
+                if (body == null) {
+                    break;
+                }
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    try {
+                                        return sender.send(body);
+                                    } catch (MeilisearchException | RuntimeException e) {
+                                        failure.compareAndSet(null, toMeilisearchException(e));
+                                        throw e;
+                                    } finally {
+                                        permits.release();
+                                    }
+                                }));
+            }
+            TaskInfo[] tasks = new TaskInfo[futures.size()];
+            for (int i = 0; i < tasks.length; i++) {
+                tasks[i] = result(futures.get(i));
+            }
+            return tasks;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MeilisearchException toMeilisearchException(Exception e) {
+        return e instanceof MeilisearchException
+                ? (MeilisearchException) e
+                : new MeilisearchException(e);
+    }
+
+    private static TaskInfo result(Future<TaskInfo> future)
+            throws MeilisearchException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw toMeilisearchException((Exception) e.getCause());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers documents given one at a time and sends them in batches
+ *
+ * <p>A batch is sent when it holds {@code batchSize} documents, when the next document would take
+ * it over {@code maxBatchBytes}, or {@code lingerMs} after its first document was buffered.
+ * Documents to add and documents to update are buffered separately. The order of the operations is
+ * kept: buffering a document of one kind sends the buffered documents of the other kind first.
+ *
+ * <p>Batches are sent one after the other by a background thread, and the results are given to the
+ * {@link Listener}. Adding documents blocks while {@code queueCapacity + 1} batches are waiting to
+ * be sent. The BulkIndexer is thread-safe and should be closed to send the last documents.
+ */
+public class BulkIndexer implements AutoCloseable {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /** Receives the results of the batches, called from the sending thread */
+    public interface Listener {
+        /**
+         * Called once a batch is enqueued by Meilisearch
+         *
+         * @param task TaskInfo Meilisearch API response
+         * @param documents number of documents of the batch
+         */
+        default void onTask(TaskInfo task, int documents) {}
+
+        /**
+         * Called when a batch cannot be sent, its documents are dropped, or when {@link #onTask}
+         * throws
+         *
+         * @param error error of the request, or the unchecked exception thrown while sending the
+         *     batch wrapped in a MeilisearchException
+         * @param documents number of documents not sent, 0 if {@link #onTask} threw
+         */
+        default void onFailure(MeilisearchException error, int documents) {}
+    }
+
+    private final Documents documents;
+    private final QueueThrottle throttle;
+    private final String uid;
+    private final String primaryKey;
+    private final JsonHandler jsonHandler;
+    private final Listener listener;
+    private final int batchSize;
+    private final int maxBatchBytes;
+    private final int payloadSizeLimit;
+    private final long lingerMs;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Semaphore permits;
+
+    // guarded by this
+    private final Buffer additions = new Buffer(false);
+    private final Buffer updates = new Buffer(true);
+    private boolean closed;
+
+    BulkIndexer(
+            Documents documents,
+            QueueThrottle.TasksLookup tasks,
+            String uid,
+            String primaryKey,
+            JsonHandler jsonHandler,
+            BatchOptions options,
+            Listener listener) {
+        if (options.getBatchSize() <= 0 || options.getLingerMs() <= 0) {
+            throw new IllegalArgumentException("batchSize and lingerMs must be positive");
+        }
+        this.documents = documents;
+        this.throttle =
+                options.getMaxQueuedTasks() > 0 ? new QueueThrottle(tasks, uid, options) : null;
+        this.uid = uid;
+        this.primaryKey = primaryKey;
+        this.jsonHandler = jsonHandler;
+        this.listener = listener;
+        this.batchSize = options.getBatchSize();
+        this.maxBatchBytes = Math.min(options.getMaxBatchBytes(), options.getPayloadSizeLimit());
+        this.payloadSizeLimit = options.getPayloadSizeLimit();
+        this.lingerMs = options.getLingerMs();
+        this.permits = new Semaphore(options.getQueueCapacity() + 1);
+        this.executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "meilisearch-bulk-indexer-"
+                                                    + THREADS.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Buffers a document to add or replace
+     *
+     * @param document document to add
+     * @throws MeilisearchException if the document cannot be encoded or is larger than the payload
+     *     size limit
+     */
+    public void add(Object document) throws MeilisearchException {
+        buffer(document, false);
+    }
+
+    /**
+     * Buffers a document to add or update
+     *
+     * @param document document to update
+     * @throws MeilisearchException if the document cannot be encoded or is larger than the payload
+     *     size limit
+     */
+    public void update(Object document) throws MeilisearchException {
+        buffer(document, true);
+    }
+
+    /**
+     * Sends the buffered documents and waits until every batch is sent
+     *
+     * @throws MeilisearchException if interrupted while waiting
+     * @throws IllegalStateException if the BulkIndexer is closed
+     */
+    public void flush() throws MeilisearchException {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("BulkIndexer is closed");
+            }
+            submit(additions, false);
+            submit(updates, false);
+        }
+        awaitSent();
+    }
+
+    /**
+     * Sends the buffered documents, waits until every batch is sent and stops the sending thread
+     *
+     * @throws MeilisearchException if interrupted while waiting
+     */
+    @Override
+    public void close() throws MeilisearchException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            submit(additions, false);
+            submit(updates, false);
+        }
+        awaitSent();
+        executor.shutdown();
+    }
+
+    private void buffer(Object document, boolean update) throws MeilisearchException {
+        byte[] json = jsonHandler.encodeToBytes(document);
+        if (json.length + 2 > payloadSizeLimit) {
+            throw new MeilisearchException(
+                    "A document of "
+                            + json.length
+                            + " bytes exceeds the payload size limit of "
+                            + payloadSizeLimit
+                            + " bytes");
+        }
+        int submitted = 0;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("BulkIndexer is closed");
+            }
+            Buffer buffer = update ? updates : additions;
+            if (submit(update ? additions : updates, true)) {
+                submitted++;
+            }
+            if (buffer.count > 0
+                    && buffer.writer.size() + json.length + 2 > maxBatchBytes
+                    && submit(buffer, true)) {
+                submitted++;
+            }
+            if (buffer.count == 0) {
+                long generation = buffer.generation;
+                executor.schedule(
+                        () -> linger(buffer, generation), lingerMs, TimeUnit.MILLISECONDS);
+            }
+            buffer.writer.rawValue(json, 0, json.length);
+            buffer.count++;
+            if (buffer.count >= batchSize && submit(buffer, true)) {
+                submitted++;
+            }
+        }
+        if (submitted > 0) {
+            try {
+                permits.acquire(submitted);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            }
+        }
+    }
+
+    /** Sends the batch of a buffer if no other batch was taken from it since the timer started */
+    private void linger(Buffer buffer, long generation) {
+        synchronized (this) {
+            if (buffer.generation == generation) {
+                submit(buffer, false);
+            }
+        }
+    }
+
+    /**
+     * Takes the batch of a buffer and queues it to be sent
+     *
+     * @param buffer buffer to take the batch from
+     * @param counted whether the caller takes a permit for the batch once out of the lock, to block
+     *     while too many batches are waiting
+     * @return true if a batch was queued
+     */
+    private boolean submit(Buffer buffer, boolean counted) {
+        if (buffer.count == 0) {
+            return false;
+        }
+        buffer.writer.endArray();
+        byte[] batch = buffer.writer.toByteArray();
+        int count = buffer.count;
+        boolean update = buffer.update;
+        buffer.reset();
+        executor.execute(
+                () -> {
+                    try {
+                        send(batch, count, update);
+                    } finally {
+                        if (counted) {
+                            permits.release();
+                        }
+                    }
+                });
+        return true;
+    }
+
+    private void send(byte[] batch, int count, boolean update) {
+        int unsent = count;
+        try {
+            if (throttle != null) {
+                throttle.await();
+            }
+            TaskInfo task =
+                    update
+                            ? documents.updateDocuments(uid, HttpBody.json(batch), primaryKey)
+                            : documents.addDocuments(uid, HttpBody.json(batch), primaryKey);
+            unsent = 0;
+            listener.onTask(task, count);
+        } catch (MeilisearchException e) {
+            listener.onFailure(e, unsent);
+        } catch (RuntimeException e) {
+            // the executor would drop it silently
+            listener.onFailure(new MeilisearchException(e), unsent);
+        }
+    }
+
+    private void awaitSent() throws MeilisearchException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (RejectedExecutionException e) {
+            // closed concurrently, close() waited for every batch before stopping the thread
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        } catch (ExecutionException e) {
+            throw new MeilisearchException(e.getCause());
+        }
+    }
+
+    /** Documents of one kind waiting to be sent */
+    private static final class Buffer {
+        private final boolean update;
+        private final JsonByteWriter writer = new JsonByteWriter(16 * 1024);
+        private int count;
+        private long generation;
+
+        Buffer(boolean update) {
+            this.update = update;
+            this.writer.beginArray();
+        }
+
+        void reset() {
+            writer.reset();
+            writer.beginArray();
+            count = 0;
+            generation++;
+        }
+    }
+}
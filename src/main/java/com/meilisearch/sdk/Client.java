@@ -5,19 +5,30 @@ package com.meilisearch.sdk;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
 import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.CancelTasksQuery;
 import com.meilisearch.sdk.model.IndexesQuery;
 import com.meilisearch.sdk.model.Key;
 import com.meilisearch.sdk.model.KeyUpdate;
 import com.meilisearch.sdk.model.KeysQuery;
 import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.Settings;
 import com.meilisearch.sdk.model.Stats;
+import com.meilisearch.sdk.model.SwapIndexesParams;
 import com.meilisearch.sdk.model.Task;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TasksQuery;
 import com.meilisearch.sdk.model.TasksResults;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -164,6 +175,146 @@ public class Client {
         return this.indexesHandler.deleteIndex(uid);
     }
 
+    /**
+     * Swaps the documents, settings and task history of pairs of indexes
+     * https://docs.meilisearch.com/reference/api/indexes.html#swap-indexes
+     *
+     * @param params pairs of indexes to swap
+     * @return Meilisearch API response as TaskInfo
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo swapIndexes(SwapIndexesParams[] params) throws MeilisearchException {
+        return this.indexesHandler.swapIndexes(params);
+    }
+
+    /**
+     * Rebuilds an index from its own documents without downtime
+     *
+     * <p>A shadow index named {@code <uid>_reindex} is created with the settings of the index,
+     * updated with the given settings, and filled with the documents of the index, copied in
+     * parallel batches. Once every task succeeded, the shadow index is swapped with the index and
+     * then deleted. The index keeps serving its previous content until the swap. Documents written
+     * to the index during the rebuild may be missing from the result.
+     *
+     * <p>The rebuild fails without changing anything if an index named {@code <uid>_reindex}
+     * already exists. When a task fails, the shadow index is deleted. When the tasks time out, it
+     * is left in place and must be deleted before rebuilding the index again.
+     *
+     * @param uid Unique identifier of the index to rebuild
+     * @param settings Settings to apply on top of the current ones, or null to keep them
+     * @param options batch options of the copy, {@code batchSize}, {@code maxInFlight}, {@code
+     *     queueCapacity} and {@code taskTimeoutMs} are used
+     * @return Meilisearch API response of the swap as TaskInfo
+     * @throws MeilisearchTimeoutException if the tasks, then the swap, are not finished within
+     *     {@code taskTimeoutMs}, the index is then left unchanged and the shadow index in place
+     * @throws MeilisearchException if an error occurs, a task failed or the shadow index already
+     *     exists, the index is then left unchanged
+     */
+    public TaskInfo reindex(String uid, Settings settings, BatchOptions options)
+            throws MeilisearchException {
+        return this.reindex(
+                uid, settings, options, (live, shadow) -> live.copyDocumentsTo(shadow, options));
+    }
+
+    /**
+     * Rebuilds an index from new documents without downtime
+     *
+     * <p>A shadow index named {@code <uid>_reindex} is created with the settings of the index,
+     * updated with the given settings, and filled with the given documents in parallel batches.
+     * Once every task succeeded, the shadow index is swapped with the index and then deleted. The
+     * index keeps serving its previous content until the swap.
+     *
+     * <p>The rebuild fails without changing anything if an index named {@code <uid>_reindex}
+     * already exists. When a task fails, the shadow index is deleted. When the tasks time out, it
+     * is left in place and must be deleted before rebuilding the index again.
+     *
+     * @param uid Unique identifier of the index to rebuild
+     * @param settings Settings to apply on top of the current ones, or null to keep them
+     * @param documents every document the rebuilt index should hold
+     * @param options batch options of the documents, {@code batchSize}, {@code maxBatchBytes},
+     *     {@code payloadSizeLimit}, {@code maxInFlight}, {@code queueCapacity} and {@code
+     *     taskTimeoutMs} are used
+     * @param <T> type of the documents
+     * @return Meilisearch API response of the swap as TaskInfo
+     * @throws MeilisearchTimeoutException if the tasks, then the swap, are not finished within
+     *     {@code taskTimeoutMs}, the index is then left unchanged and the shadow index in place
+     * @throws MeilisearchException if an error occurs, a task failed or the shadow index already
+     *     exists, the index is then left unchanged
+     */
+    public <T> TaskInfo reindex(
+            String uid, Settings settings, Iterator<T> documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.reindex(
+                uid,
+                settings,
+                options,
+                (live, shadow) -> shadow.addDocuments(documents, options, shadow.getPrimaryKey()));
+    }
+
+    private TaskInfo reindex(
+            String uid, Settings settings, BatchOptions options, ShadowLoader loader)
+            throws MeilisearchException {
+        Index live = this.getIndex(uid);
+        String shadowUid = uid + "_reindex";
+        // never delete an index the rebuild did not create
+        if (this.indexExists(shadowUid)) {
+            throw new MeilisearchException(
+                    "Index " + shadowUid + " already exists, delete it to rebuild index " + uid);
+        }
+
+        List<TaskInfo> tasks = new ArrayList<TaskInfo>();
+        tasks.add(this.createIndex(shadowUid, live.getPrimaryKey()));
+        TaskInfo swap;
+        try {
+            Index shadow = this.index(shadowUid);
+            shadow.primaryKey = live.getPrimaryKey();
+            tasks.add(shadow.updateSettings(live.getSettings()));
+            if (settings != null) {
+                tasks.add(shadow.updateSettings(settings));
+            }
+            tasks.addAll(Arrays.asList(loader.load(live, shadow)));
+            TasksHandler.waitForSuccess(
+                    this::getTask, tasks, options.getTaskTimeoutMs(), "the index is not rebuilt");
+
+            swap =
+                    this.swapIndexes(
+                            new SwapIndexesParams[] {
+                                new SwapIndexesParams().setIndexes(new String[] {uid, shadowUid})
+                            });
+            TasksHandler.waitForSuccess(
+                    this::getTask,
+                    Collections.singletonList(swap),
+                    options.getTaskTimeoutMs(),
+                    "the index is not rebuilt");
+        } catch (MeilisearchTimeoutException e) {
+            throw e;
+        } catch (MeilisearchException e) {
+            this.deleteIndex(shadowUid);
+            throw e;
+        }
+        // the shadow index now holds the previous content
+        this.deleteIndex(shadowUid);
+        return swap;
+    }
+
+    /** @return true if the index exists */
+    private boolean indexExists(String uid) throws MeilisearchException {
+        try {
+            this.getIndex(uid);
+            return true;
+        } catch (MeilisearchApiException e) {
+            if ("index_not_found".equals(e.getCode())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /** Fills the shadow index of a rebuild */
+    private interface ShadowLoader {
+        TaskInfo[] load(Index live, Index shadow) throws MeilisearchException;
+    }
+
     /**
      * Triggers the creation of a Meilisearch dump.
      * https://docs.meilisearch.com/reference/api/dump.html#create-a-dump
@@ -253,6 +404,28 @@ public class Client {
         return this.tasksHandler.getTasks(param);
     }
 
+    /**
+     * Cancels enqueued or processing tasks
+     * https://docs.meilisearch.com/reference/api/tasks.html#cancel-tasks
+     *
+     * @param param accept by the cancel tasks route, at least one filter is required
+     * @return Meilisearch API response as TaskInfo
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo cancelTasks(CancelTasksQuery param) throws MeilisearchException {
+        return this.tasksHandler.cancelTasks(param);
+    }
+
+    /**
+     * Creates a SupersedingWrites tracking the document tasks it enqueues, so that a full
+     * replacement of the documents of an index cancels the earlier ones still enqueued
+     *
+     * @return SupersedingWrites shared by the publishers of the indexes
+     */
+    public SupersedingWrites supersedingWrites() {
+        return new SupersedingWrites(this.tasksHandler::cancelTasks, this.tasksHandler::getTasks);
+    }
+
     /**
      * Waits for a task to be processed
      *
@@ -0,0 +1,297 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.json.JsonScanner;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers documents by primary key and only sends their last state
+ *
+ * <p>Within a flush window of {@code lingerMs}, the changes given for the same primary key are
+ * merged like Meilisearch would apply them: an update overwrites the fields it holds and keeps the
+ * others, an addition replaces the whole document. At the end of the window, or as soon as {@code
+ * batchSize} distinct documents are buffered, the merged documents are sent once each, the replaced
+ * ones with an addition and the others with an update.
+ *
+ * <p>Batches are sent by a background thread and the results are given to the {@link
+ * BulkIndexer.Listener}. Buffering blocks while {@code queueCapacity + 1} flushes are waiting to be
+ * sent. The CoalescingIndexer is thread-safe and should be closed to send the last documents.
+ */
+public class CoalescingIndexer implements AutoCloseable {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final Documents documents;
+    private final QueueThrottle throttle;
+    private final String uid;
+    private final String primaryKey;
+    private final JsonHandler jsonHandler;
+    private final BatchOptions options;
+    private final BulkIndexer.Listener listener;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Semaphore permits;
+
+    // guarded by this
+    private Map<String, Change> changes = new HashMap<String, Change>();
+    private boolean closed;
+
+    CoalescingIndexer(
+            Documents documents,
+            QueueThrottle.TasksLookup tasks,
+            String uid,
+            String primaryKey,
+            JsonHandler jsonHandler,
+            BatchOptions options,
+            BulkIndexer.Listener listener) {
+        if (primaryKey == null) {
+            throw new IllegalArgumentException("The primary key of the index is not known");
+        }
+        if (options.getBatchSize() <= 0 || options.getLingerMs() <= 0) {
+            throw new IllegalArgumentException("batchSize and lingerMs must be positive");
+        }
+        this.documents = documents;
+        this.throttle =
+                options.getMaxQueuedTasks() > 0 ? new QueueThrottle(tasks, uid, options) : null;
+        this.uid = uid;
+        this.primaryKey = primaryKey;
+        this.jsonHandler = jsonHandler;
+        this.options = options;
+        this.listener = listener;
+        this.permits = new Semaphore(options.getQueueCapacity() + 1);
+        this.executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "meilisearch-coalescing-indexer-"
+                                                    + THREADS.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor.scheduleAtFixedRate(
+                this::flushWindow,
+                options.getLingerMs(),
+                options.getLingerMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffers a document replacing any previous version of it
+     *
+     * @param document document to add
+     * @throws MeilisearchException if the document cannot be encoded or has no primary key
+     */
+    public void add(Object document) throws MeilisearchException {
+        buffer(document, true);
+    }
+
+    /**
+     * Buffers fields of a document, merged into the buffered version of the document if any
+     *
+     * @param document document holding the primary key and the fields to update
+     * @throws MeilisearchException if the document cannot be encoded or has no primary key
+     */
+    public void update(Object document) throws MeilisearchException {
+        buffer(document, false);
+    }
+
+    /**
+     * Sends the buffered documents and waits until every batch is sent
+     *
+     * @throws MeilisearchException if interrupted while waiting
+     * @throws IllegalStateException if the CoalescingIndexer is closed
+     */
+    public void flush() throws MeilisearchException {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("CoalescingIndexer is closed");
+            }
+            submit(false);
+        }
+        awaitSent();
+    }
+
+    /**
+     * Sends the buffered documents, waits until every batch is sent and stops the sending thread
+     *
+     * @throws MeilisearchException if interrupted while waiting
+     */
+    @Override
+    public void close() throws MeilisearchException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            submit(false);
+        }
+        awaitSent();
+        executor.shutdown();
+    }
+
+    private void awaitSent() throws MeilisearchException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (RejectedExecutionException e) {
+            // closed concurrently, close() waited for every batch before stopping the thread
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        } catch (ExecutionException e) {
+            throw new MeilisearchException(e.getCause());
+        }
+    }
+
+    private void buffer(Object document, boolean replace) throws MeilisearchException {
+        Map<String, String> fields = fields(jsonHandler.encode(document));
+        String id = id(fields.get(primaryKey));
+        boolean submitted;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("CoalescingIndexer is closed");
+            }
+            Change change = changes.get(id);
+            if (change == null || replace) {
+                changes.put(id, new Change(replace, fields));
+            } else {
+                change.fields.putAll(fields);
+            }
+            submitted = changes.size() >= options.getBatchSize() && submit(true);
+        }
+        if (submitted) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            }
+        }
+    }
+
+    private void flushWindow() {
+        synchronized (this) {
+            submit(false);
+        }
+    }
+
+    /**
+     * Takes the buffered changes and queues them to be sent
+     *
+     * @param counted whether the caller takes a permit once out of the lock
+     * @return true if changes were queued
+     */
+    private boolean submit(boolean counted) {
+        if (changes.isEmpty()) {
+            return false;
+        }
+        Map<String, Change> taken = changes;
+        changes = new HashMap<String, Change>();
+        executor.execute(
+                () -> {
+                    try {
+                        send(taken);
+                    } finally {
+                        if (counted) {
+                            permits.release();
+                        }
+                    }
+                });
+        return true;
+    }
+
+    private void send(Map<String, Change> taken) {
+        List<byte[]> replaced = new ArrayList<byte[]>();
+        List<byte[]> updated = new ArrayList<byte[]>();
+        for (Change change : taken.values()) {
+            (change.replace ? replaced : updated).add(change.encode());
+        }
+        send(replaced, false);
+        send(updated, true);
+    }
+
+    private void send(List<byte[]> encoded, boolean update) {
+        DocumentBatcher batcher = DocumentBatcher.ofEncoded(encoded.iterator(), options);
+        int sent = 0;
+        try {
+            for (byte[] batch = batcher.next(); batch != null; batch = batcher.next()) {
+                if (throttle != null) {
+                    throttle.await();
+                }
+                TaskInfo task =
+                        update
+                                ? documents.updateDocuments(uid, HttpBody.json(batch), primaryKey)
+                                : documents.addDocuments(uid, HttpBody.json(batch), primaryKey);
+                sent += batcher.getCount();
+                listener.onTask(task, batcher.getCount());
+            }
+        } catch (MeilisearchException e) {
+            listener.onFailure(e, encoded.size() - sent);
+        } catch (RuntimeException e) {
+            // the executor would drop it silently, with the rest of the flush window
+            listener.onFailure(new MeilisearchException(e), encoded.size() - sent);
+        }
+    }
+
+    /** @return raw JSON value of each top-level field of a document */
+    private static Map<String, String> fields(String json) throws JsonDecodingException {
+        Map<String, String> fields = new LinkedHashMap<String, String>();
+        int pos = JsonScanner.firstElement(json, 0, '{', '}');
+        while (pos != -1) {
+            String name = JsonScanner.readString(json, pos);
+            int value = JsonScanner.skipColon(json, JsonScanner.skipString(json, pos));
+            int end = JsonScanner.skipValue(json, value);
+            fields.put(name, json.substring(value, end));
+            pos = JsonScanner.nextElement(json, end, '}');
+        }
+        return fields;
+    }
+
+    /** @return the document identifier, the same for 12 and "12" */
+    private String id(String value) throws MeilisearchException {
+        if (value == null || "null".equals(value)) {
+            throw new MeilisearchException("Document has no value for primary key " + primaryKey);
+        }
+        return value.charAt(0) == '"' ? JsonScanner.readString(value, 0) : value;
+    }
+
+    /** Merged state of one document */
+    private static final class Change {
+        private final boolean replace;
+        private final Map<String, String> fields;
+
+        Change(boolean replace, Map<String, String> fields) {
+            this.replace = replace;
+            this.fields = fields;
+        }
+
+        byte[] encode() {
+            JsonByteWriter writer = new JsonByteWriter();
+            writer.beginObject();
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                byte[] value = field.getValue().getBytes(StandardCharsets.UTF_8);
+                writer.name(field.getKey()).rawValue(value, 0, value.length);
+            }
+            writer.endObject();
+            return writer.toByteArray();
+        }
+    }
+}
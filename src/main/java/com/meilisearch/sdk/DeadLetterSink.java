@@ -0,0 +1,35 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+
+/**
+ * Receives the documents left out of a batch by the primary key pre-flight, see {@code
+ * BatchOptions.deadLetterSink}
+ */
+public interface DeadLetterSink {
+
+    /** Why a document was left out */
+    enum Reason {
+        /** The document has no value for the primary key */
+        MISSING_ID,
+        /**
+         * The value is neither an integer nor a string of at most 511 alphanumeric characters,
+         * hyphens and underscores
+         */
+        INVALID_ID,
+        /**
+         * A later document of the same batch has the same identifier and replaces it, only when
+         * adding or replacing documents
+         */
+        DUPLICATE_ID
+    }
+
+    /**
+     * Called from the thread preparing the batches
+     *
+     * @param document UTF-8 encoded JSON document
+     * @param reason why the document was left out
+     * @throws MeilisearchException to stop the upload
+     */
+    void reject(byte[] document, Reason reason) throws MeilisearchException;
+}
@@ -0,0 +1,177 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.json.JsonScanner;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Sends only the documents that changed since the previous synchronization
+ *
+ * <p>A {@link DocumentHashStore} file keeps the identifier and content hash of every document of
+ * the previous synchronization. Documents whose hash differs, or which are new, are sent; the
+ * identifiers of the store that are not given again are deleted. The store is replaced once every
+ * task succeeded, so that a failed synchronization is fully retried by the next one.
+ */
+class DeltaSync {
+    /** Deletes a batch of documents */
+    interface Deleter {
+        TaskInfo delete(List<String> ids) throws MeilisearchException;
+    }
+
+    private final BatchUploader.Sender sender;
+    private final Deleter deleter;
+    private final TasksHandler.TaskLookup tasks;
+    private final String primaryKey;
+    private final JsonHandler jsonHandler;
+    private final Path store;
+    private final BatchOptions options;
+
+    private int unchanged;
+
+    /**
+     * @param sender adds or replaces one batch of documents
+     * @param deleter deletes one batch of documents
+     * @param tasks fetches the tasks of the batches
+     * @param primaryKey PrimaryKey of the documents
+     * @param jsonHandler encodes the documents
+     * @param store hash store file, created if it does not exist
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes}, {@code
+     *     payloadSizeLimit}, {@code maxInFlight} and {@code taskTimeoutMs} are used
+     */
+    DeltaSync(
+            BatchUploader.Sender sender,
+            Deleter deleter,
+            TasksHandler.TaskLookup tasks,
+            String primaryKey,
+            JsonHandler jsonHandler,
+            Path store,
+            BatchOptions options) {
+        this.sender = sender;
+        this.deleter = deleter;
+        this.tasks = tasks;
+        this.primaryKey = primaryKey;
+        this.jsonHandler = jsonHandler;
+        this.store = store;
+        this.options = options;
+    }
+
+    /**
+     * Synchronizes the index with the given documents and waits for the tasks
+     *
+     * @param documents every document the index should hold
+     * @return TaskInfo of the batches of changed documents then of the deletions
+     * @throws MeilisearchException if an error occurs or a task failed or is not finished within
+     *     {@code taskTimeoutMs}, the store is then left unchanged
+     */
+    TaskInfo[] run(Iterator<?> documents) throws MeilisearchException {
+        try {
+            DocumentHashStore previous = DocumentHashStore.load(store);
+            DocumentHashStore current = new DocumentHashStore(previous.size());
+            List<TaskInfo> sent = new ArrayList<TaskInfo>();
+            DocumentBatcher batcher =
+                    new DocumentBatcher(
+                            new ChangedDocuments(documents, previous, current), options);
+            sent.addAll(Arrays.asList(new BatchUploader(sender, options).upload(batcher)));
+            sent.addAll(deleteMissing(previous, current));
+            TasksHandler.waitForSuccess(
+                    tasks, sent, options.getTaskTimeoutMs(), "the hash store is not updated");
+            current.save(store);
+            return sent.toArray(new TaskInfo[sent.size()]);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    /** @return number of documents found unchanged by the last run */
+    int getUnchanged() {
+        return unchanged;
+    }
+
+    private List<TaskInfo> deleteMissing(DocumentHashStore previous, DocumentHashStore current)
+            throws MeilisearchException {
+        List<TaskInfo> deletions = new ArrayList<TaskInfo>();
+        List<String> batch = new ArrayList<String>();
+        for (Iterator<byte[]> ids = previous.ids(); ids.hasNext(); ) {
+            byte[] id = ids.next();
+            if (current.get(id) != 0) {
+                continue;
+            }
+            batch.add(new String(id, StandardCharsets.UTF_8));
+            if (batch.size() >= options.getBatchSize()) {
+                deletions.add(deleter.delete(batch));
+                batch = new ArrayList<String>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deletions.add(deleter.delete(batch));
+        }
+        return deletions;
+    }
+
+    /** @return UTF-8 encoded identifier of a document, the same for 12 and "12" */
+    private byte[] id(String json) throws MeilisearchException {
+        int pos = JsonScanner.firstElement(json, 0, '{', '}');
+        while (pos != -1) {
+            String name = JsonScanner.readString(json, pos);
+            int value = JsonScanner.skipColon(json, JsonScanner.skipString(json, pos));
+            int end = JsonScanner.skipValue(json, value);
+            if (name.equals(primaryKey) && !JsonScanner.isNull(json, value)) {
+                String id =
+                        json.charAt(value) == '"'
+                                ? JsonScanner.readString(json, value)
+                                : json.substring(value, end);
+                return id.getBytes(StandardCharsets.UTF_8);
+            }
+            pos = JsonScanner.nextElement(json, end, '}');
+        }
+        throw new MeilisearchException("Document has no value for primary key " + primaryKey);
+    }
+
+    /** Encodes the documents and skips the ones the previous store holds unchanged */
+    private final class ChangedDocuments implements DocumentBatcher.DocumentSource {
+        private final Iterator<?> documents;
+        private final DocumentHashStore previous;
+        private final DocumentHashStore current;
+        private byte[] next;
+
+        ChangedDocuments(
+                Iterator<?> documents, DocumentHashStore previous, DocumentHashStore current) {
+            this.documents = documents;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        @Override
+        public int peekSize() throws MeilisearchException {
+            while (next == null && documents.hasNext()) {
+                String json = jsonHandler.encode(documents.next());
+                byte[] encoded = json.getBytes(StandardCharsets.UTF_8);
+                byte[] id = id(json);
+                long hash = DocumentHashStore.hash(encoded);
+                current.put(id, hash);
+                if (previous.get(id) == hash) {
+                    unchanged++;
+                } else {
+                    next = encoded;
+                }
+            }
+            return next == null ? -1 : next.length;
+        }
+
+        @Override
+        public void next(JsonByteWriter writer) {
+            writer.rawValue(next, 0, next.length);
+            next = null;
+        }
+    }
+}
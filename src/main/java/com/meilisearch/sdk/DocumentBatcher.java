@@ -0,0 +1,249 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonDocumentStream;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Groups documents into JSON array batches bounded in count and in bytes
+ *
+ * <p>Documents come either from a stream of JSON, copied as they are, or from objects encoded one
+ * at a time with a JsonHandler.
+ */
+class DocumentBatcher implements BatchUploader.Source {
+    private final DocumentSource documents;
+    private int batchSize;
+    private int count;
+    private final int maxBatchBytes;
+    private final int payloadSizeLimit;
+    private final JsonByteWriter writer = new JsonByteWriter(64 * 1024);
+    private PrimaryKeyPreflight preflight;
+    private JsonByteWriter document;
+    /** Documents of the batch when checked, null for those replaced by a later duplicate */
+    private final List<byte[]> checked = new ArrayList<byte[]>();
+    /** Encoded size of the checked documents as a JSON array */
+    private long checkedBytes;
+
+    /**
+     * @param documents stream of documents to batch
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     */
+    DocumentBatcher(JsonDocumentStream documents, BatchOptions options) {
+        this(
+                new DocumentSource() {
+                    @Override
+                    public int peekSize() throws IOException, MeilisearchException {
+                        return documents.peekSize();
+                    }
+
+                    @Override
+                    public void next(JsonByteWriter writer)
+                            throws IOException, MeilisearchException {
+                        documents.next(writer);
+                    }
+                },
+                options);
+    }
+
+    /**
+     * @param documents documents to batch
+     * @param jsonHandler encodes the documents
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     */
+    DocumentBatcher(Iterator<?> documents, JsonHandler jsonHandler, BatchOptions options) {
+        this(new EncodingSource(documents, jsonHandler), options);
+    }
+
+    /**
+     * @param documents UTF-8 encoded JSON documents to batch
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     * @return DocumentBatcher
+     */
+    static DocumentBatcher ofEncoded(Iterator<byte[]> documents, BatchOptions options) {
+        return new DocumentBatcher(new EncodedSource(documents), options);
+    }
+
+    /**
+     * @param documents documents to batch
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     */
+    DocumentBatcher(DocumentSource documents, BatchOptions options) {
+        if (options.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (options.getMaxBatchBytes() <= 2 || options.getPayloadSizeLimit() <= 2) {
+            throw new IllegalArgumentException("maxBatchBytes and payloadSizeLimit are too small");
+        }
+        this.documents = documents;
+        this.batchSize = options.getBatchSize();
+        this.maxBatchBytes = Math.min(options.getMaxBatchBytes(), options.getPayloadSizeLimit());
+        this.payloadSizeLimit = options.getPayloadSizeLimit();
+    }
+
+    /** @param batchSize maximum number of documents of the next batches */
+    void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /** @param preflight checks each document before it is added to a batch */
+    void setPreflight(PrimaryKeyPreflight preflight) {
+        this.preflight = preflight;
+        this.document = new JsonByteWriter(1024);
+    }
+
+    /** @return number of documents of the last batch */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the next batch as a UTF-8 encoded JSON array, or null if there are no more documents
+     * @throws MeilisearchException if the documents cannot be read or if a document alone is larger
+     *     than the payload size limit
+     */
+    @Override
+    public byte[] next() throws MeilisearchException {
+        writer.reset();
+        writer.beginArray();
+        count = 0;
+        if (preflight != null) {
+            preflight.startBatch();
+            checked.clear();
+            checkedBytes = writer.size();
+        }
+        try {
+            while (count < batchSize) {
+                int size = documents.peekSize();
+                if (size < 0) {
+                    break;
+                }
+                // separator, document and closing bracket
+                long batchBytes =
+                        (preflight == null ? writer.size() : checkedBytes)
+                                + (count == 0 ? 0 : 1)
+                                + size
+                                + 1;
+                if (batchBytes > maxBatchBytes && count > 0) {
+                    break;
+                }
+                if (batchBytes > payloadSizeLimit) {
+                    throw new MeilisearchException(
+                            "A document of "
+                                    + size
+                                    + " bytes exceeds the payload size limit of "
+                                    + payloadSizeLimit
+                                    + " bytes");
+                }
+                if (preflight == null) {
+                    documents.next(writer);
+                    count++;
+                } else {
+                    document.reset();
+                    documents.next(document);
+                    check();
+                }
+            }
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+        if (count == 0) {
+            return null;
+        }
+        if (preflight != null) {
+            for (byte[] checkedDocument : checked) {
+                if (checkedDocument != null) {
+                    writer.rawValue(checkedDocument, 0, checkedDocument.length);
+                }
+            }
+        }
+        writer.endArray();
+        return writer.toByteArray();
+    }
+
+    /** Adds the document to the checked ones, replacing an earlier one with the same identifier */
+    private void check() throws MeilisearchException {
+        int earlier = preflight.accept(document, checked.size());
+        if (earlier == PrimaryKeyPreflight.REJECTED) {
+            return;
+        }
+        byte[] bytes = document.toByteArray();
+        checked.add(bytes);
+        checkedBytes += (count == 0 ? 0 : 1) + bytes.length;
+        if (earlier == PrimaryKeyPreflight.NEW_ID) {
+            count++;
+            return;
+        }
+        byte[] replaced = checked.set(earlier, null);
+        checkedBytes -= 1 + replaced.length;
+        preflight.rejectDuplicate(replaced);
+    }
+
+    /** Documents read one at a time, each one can be looked at before being consumed */
+    interface DocumentSource {
+        /** @return size of the next document in bytes, or -1 if there are no more documents */
+        int peekSize() throws IOException, MeilisearchException;
+
+        /** Appends the next document to a writer */
+        void next(JsonByteWriter writer) throws IOException, MeilisearchException;
+    }
+
+    /** Encodes the objects of an iterator, one ahead */
+    private static final class EncodingSource implements DocumentSource {
+        private final Iterator<?> documents;
+        private final JsonHandler jsonHandler;
+        private byte[] next;
+
+        EncodingSource(Iterator<?> documents, JsonHandler jsonHandler) {
+            this.documents = documents;
+            this.jsonHandler = jsonHandler;
+        }
+
+        @Override
+        public int peekSize() throws MeilisearchException {
+            if (next == null && documents.hasNext()) {
+                next = jsonHandler.encodeToBytes(documents.next());
+            }
+            return next == null ? -1 : next.length;
+        }
+
+        @Override
+        public void next(JsonByteWriter writer) {
+            writer.rawValue(next, 0, next.length);
+            next = null;
+        }
+    }
+
+    /** Documents already encoded */
+    private static final class EncodedSource implements DocumentSource {
+        private final Iterator<byte[]> documents;
+        private byte[] next;
+
+        EncodedSource(Iterator<byte[]> documents) {
+            this.documents = documents;
+        }
+
+        @Override
+        public int peekSize() {
+            if (next == null && documents.hasNext()) {
+                next = documents.next();
+            }
+            return next == null ? -1 : next.length;
+        }
+
+        @Override
+        public void next(JsonByteWriter writer) {
+            writer.rawValue(next, 0, next.length);
+            next = null;
+        }
+    }
+}
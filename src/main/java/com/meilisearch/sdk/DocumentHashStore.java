@@ -0,0 +1,308 @@
+package com.meilisearch.sdk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Table of document identifiers to content hashes, kept off the heap and saved to a single file
+ *
+ * <p>The table uses open addressing with linear probing over 24-byte slots holding the hash of the
+ * identifier, the hash of the content and the position of the identifier in the identifier area.
+ * Identifiers are kept to tell hash collisions apart and to list the documents of the table. A
+ * saved table is read off the heap and read-only when loaded; the file is not kept mapped, so that
+ * {@link #save} can replace it on any platform. A table holds at most 50 million documents.
+ */
+class DocumentHashStore {
+    private static final int MAGIC = 0x4d534853;
+    private static final int VERSION = 1;
+    // magic, version, capacity, size and length of the identifier area
+    private static final int HEADER = 20;
+    private static final int SLOT = 24;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    private ByteBuffer slots;
+    private ByteBuffer ids;
+    private int capacity;
+    private int size;
+    private int idsLength;
+    private final boolean readOnly;
+
+    /** @param expected number of documents expected, the table grows past it */
+    DocumentHashStore(int expected) {
+        this.capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && capacity * 3L < expected * 4L) {
+            capacity *= 2;
+        }
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT);
+        this.ids = ByteBuffer.allocateDirect(64 * 1024);
+        this.readOnly = false;
+    }
+
+    private DocumentHashStore(ByteBuffer slots, ByteBuffer ids, int capacity, int size) {
+        this.slots = slots;
+        this.ids = ids;
+        this.capacity = capacity;
+        this.size = size;
+        this.idsLength = ids.limit();
+        this.readOnly = true;
+    }
+
+    /**
+     * @param path file written by {@link #save}
+     * @return read-only table of the file, or an empty table if the file does not exist
+     * @throws IOException if the file cannot be read or is not a saved table
+     */
+    static DocumentHashStore load(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new DocumentHashStore(0);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER) {
+                throw new IOException(path + " is not a document hash store");
+            }
+            ByteBuffer header = read(channel, path, HEADER);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException(path + " is not a document hash store");
+            }
+            int capacity = header.getInt(8);
+            int size = header.getInt(12);
+            int idsLength = header.getInt(16);
+            // probing masks the hash with capacity - 1
+            if (capacity < MIN_CAPACITY
+                    || capacity > MAX_CAPACITY
+                    || Integer.bitCount(capacity) != 1
+                    || size < 0
+                    || size * 4L > capacity * 3L
+                    || idsLength < 0) {
+                throw new IOException(path + " is corrupt");
+            }
+            int slotsLength = capacity * SLOT;
+            if (channel.size() != HEADER + (long) slotsLength + idsLength) {
+                throw new IOException(path + " is truncated");
+            }
+            ByteBuffer slots = read(channel, path, slotsLength);
+            return new DocumentHashStore(slots, read(channel, path, idsLength), capacity, size);
+        }
+    }
+
+    /** Reads the next bytes of a file into a direct buffer, ready to be read */
+    private static ByteBuffer read(FileChannel channel, Path path, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException(path + " is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /** @return number of documents of the table */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param id UTF-8 encoded identifier
+     * @return content hash of the document, or 0 if the table does not hold it
+     */
+    long get(byte[] id) {
+        int slot = find(id, hash(id));
+        return slot < 0 ? 0 : slots.getLong(slot + 8);
+    }
+
+    /**
+     * Sets the content hash of a document
+     *
+     * @param id UTF-8 encoded identifier
+     * @param contentHash hash of the document given by {@link #hash}
+     */
+    void put(byte[] id, long contentHash) {
+        if (readOnly) {
+            throw new IllegalStateException("A loaded document hash store is read-only");
+        }
+        long keyHash = hash(id);
+        int slot = find(id, keyHash);
+        if (slot >= 0) {
+            slots.putLong(slot + 8, contentHash);
+            return;
+        }
+        if ((size + 1) * 4L > capacity * 3L) {
+            grow();
+        }
+        int offset = append(id);
+        slot = emptySlot(keyHash);
+        slots.putLong(slot, keyHash);
+        slots.putLong(slot + 8, contentHash);
+        slots.putInt(slot + 16, offset);
+        slots.putInt(slot + 20, id.length);
+        size++;
+    }
+
+    /** @return UTF-8 encoded identifiers of the documents, in insertion order */
+    Iterator<byte[]> ids() {
+        return new Iterator<byte[]>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < idsLength;
+            }
+
+            @Override
+            public byte[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                byte[] id = new byte[ids.getInt(position)];
+                ByteBuffer view = ids.duplicate();
+                view.position(position + 4);
+                view.get(id);
+                position += 4 + id.length;
+                return id;
+            }
+        };
+    }
+
+    /**
+     * Writes the table to a file, replaced atomically
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be written
+     */
+    void save(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER);
+        header.putInt(MAGIC).putInt(VERSION).putInt(capacity).putInt(size).putInt(idsLength);
+        header.flip();
+        ByteBuffer slotsView = slots.duplicate();
+        slotsView.clear();
+        ByteBuffer idsView = ids.duplicate();
+        idsView.position(0).limit(idsLength);
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel =
+                FileChannel.open(
+                        temporary,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            ByteBuffer[] content = {header, slotsView, idsView};
+            while (idsView.hasRemaining() || slotsView.hasRemaining() || header.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(
+                temporary,
+                path,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 64-bit FNV-1a hash followed by the MurmurHash3 finalizer, never 0
+     *
+     * @param bytes bytes to hash
+     * @return hash of the bytes
+     */
+    static long hash(byte[] bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /** @return offset of the slot of an identifier, or -1 if the table does not hold it */
+    private int find(byte[] id, long keyHash) {
+        int mask = capacity - 1;
+        for (int index = (int) keyHash & mask; ; index = (index + 1) & mask) {
+            int slot = index * SLOT;
+            if (slots.getLong(slot + 8) == 0) {
+                return -1;
+            }
+            if (slots.getLong(slot) == keyHash
+                    && idEquals(slots.getInt(slot + 16), slots.getInt(slot + 20), id)) {
+                return slot;
+            }
+        }
+    }
+
+    private int emptySlot(long keyHash) {
+        int mask = capacity - 1;
+        int index = (int) keyHash & mask;
+        while (slots.getLong(index * SLOT + 8) != 0) {
+            index = (index + 1) & mask;
+        }
+        return index * SLOT;
+    }
+
+    private boolean idEquals(int offset, int length, byte[] id) {
+        if (length != id.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (ids.get(offset + 4 + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return offset of the identifier in the identifier area */
+    private int append(byte[] id) {
+        long needed = (long) idsLength + 4 + id.length;
+        if (needed > ids.capacity()) {
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many document identifiers to keep");
+            }
+            ByteBuffer larger =
+                    ByteBuffer.allocateDirect(
+                            (int) Math.min(Integer.MAX_VALUE, Math.max(needed, 2L * idsLength)));
+            ByteBuffer view = ids.duplicate();
+            view.position(0).limit(idsLength);
+            larger.put(view);
+            ids = larger;
+        }
+        int offset = idsLength;
+        ids.putInt(offset, id.length);
+        ByteBuffer view = ids.duplicate();
+        view.position(offset + 4);
+        view.put(id);
+        idsLength += 4 + id.length;
+        return offset;
+    }
+
+    private void grow() {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Too many documents to keep in a document hash store");
+        }
+        ByteBuffer old = slots;
+        int oldCapacity = capacity;
+        capacity *= 2;
+        slots = ByteBuffer.allocateDirect(capacity * SLOT);
+        for (int index = 0; index < oldCapacity; index++) {
+            int from = index * SLOT;
+            if (old.getLong(from + 8) == 0) {
+                continue;
+            }
+            int to = emptySlot(old.getLong(from));
+            for (int i = 0; i < SLOT; i += 8) {
+                slots.putLong(to + i, old.getLong(from + i));
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.UncheckedMeilisearchException;
+import com.meilisearch.sdk.model.Results;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Iterates over the documents of an index, fetching the pages ahead of the consumer
+ *
+ * <p>The next pages are fetched by background threads while the current page is consumed: one page
+ * ahead, or up to {@code parallelism} pages of consecutive offset ranges once the total number of
+ * documents is known. The page size starts at the requested limit and is doubled while pages come
+ * back in less than {@value #TARGET_PAGE_MS} ms, halved while they take more than four times that.
+ * As with any offset pagination, documents changed during the iteration may be missed or seen
+ * twice.
+ */
+class DocumentPager<T> implements Iterator<T>, AutoCloseable {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final long TARGET_PAGE_MS = 250;
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final int MIN_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 10000;
+
+    /** Fetches one page of documents */
+    interface Fetcher<T> {
+        Results<T> fetch(int offset, int limit) throws MeilisearchException;
+    }
+
+    private final Fetcher<T> fetcher;
+    private final int parallelism;
+    private final Deque<Page<T>> pending = new ArrayDeque<Page<T>>();
+    private ThreadPoolExecutor executor;
+    private int pageSize;
+    private int nextOffset;
+    private long end = -1;
+    private T[] current;
+    private int index;
+    private boolean closed;
+
+    /**
+     * @param fetcher fetches one page of documents
+     * @param offset offset of the first document, or -1 for 0
+     * @param pageSize initial number of documents per page, or -1 for the default
+     * @param parallelism maximum number of pages fetched at the same time
+     */
+    DocumentPager(Fetcher<T> fetcher, int offset, int pageSize, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.fetcher = fetcher;
+        this.parallelism = parallelism;
+        this.nextOffset = Math.max(offset, 0);
+        this.pageSize =
+                pageSize <= 0
+                        ? DEFAULT_PAGE_SIZE
+                        : Math.max(MIN_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, pageSize));
+    }
+
+    /** @return current number of documents requested per page */
+    int getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || index >= current.length) {
+            if (closed) {
+                return false;
+            }
+            fill();
+            Page<T> page = pending.poll();
+            if (page == null) {
+                close();
+                return false;
+            }
+            Results<T> results = take(page);
+            adapt(page.elapsedNanos);
+            T[] documents = results.getResults();
+            int count = documents == null ? 0 : documents.length;
+            long last = (long) page.offset + count;
+            if (count < page.limit) {
+                end = last;
+                discardAfterEnd();
+            } else if (end < 0) {
+                end = Math.max(last, results.getTotal());
+            }
+            // the next pages are fetched while this one is consumed
+            fill();
+            current = documents;
+            index = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current[index++];
+    }
+
+    /** Stops the background fetches */
+    @Override
+    public void close() {
+        closed = true;
+        current = null;
+        for (Page<T> page : pending) {
+            page.future.cancel(true);
+        }
+        pending.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Starts fetching the next pages, a single one until the total is known */
+    private void fill() {
+        int limit = end < 0 ? 1 : parallelism;
+        while (pending.size() < limit && (end < 0 ? pending.isEmpty() : nextOffset < end)) {
+            Page<T> page = new Page<T>(nextOffset, pageSize);
+            page.future = executor().submit(() -> fetch(page));
+            pending.add(page);
+            nextOffset += pageSize;
+        }
+    }
+
+    private void discardAfterEnd() {
+        for (Iterator<Page<T>> pages = pending.iterator(); pages.hasNext(); ) {
+            Page<T> page = pages.next();
+            if (page.offset >= end) {
+                page.future.cancel(true);
+                pages.remove();
+            }
+        }
+    }
+
+    private Results<T> fetch(Page<T> page) throws MeilisearchException {
+        long start = System.nanoTime();
+        Results<T> results = fetcher.fetch(page.offset, page.limit);
+        page.elapsedNanos = System.nanoTime() - start;
+        return results;
+    }
+
+    private Results<T> take(Page<T> page) {
+        try {
+            return page.future.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new UncheckedMeilisearchException(new MeilisearchException(e));
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof MeilisearchException) {
+                throw new UncheckedMeilisearchException((MeilisearchException) cause);
+            }
+            throw new UncheckedMeilisearchException(new MeilisearchException(cause));
+        }
+    }
+
+    private void adapt(long elapsedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs < TARGET_PAGE_MS) {
+            pageSize = Math.min(MAX_PAGE_SIZE, pageSize * 2);
+        } else if (elapsedMs > 4 * TARGET_PAGE_MS) {
+            pageSize = Math.max(MIN_PAGE_SIZE, pageSize / 2);
+        }
+    }
+
+    private ThreadPoolExecutor executor() {
+        if (executor == null) {
+            executor =
+                    new ThreadPoolExecutor(
+                            parallelism,
+                            parallelism,
+                            1L,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(),
+                            runnable -> {
+                                Thread thread =
+                                        new Thread(
+                                                runnable,
+                                                "meilisearch-document-pager-"
+                                                        + THREADS.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            // an iterator left unfinished does not keep threads alive
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /** Page fetched or being fetched */
+    private static final class Page<T> {
+        private final int offset;
+        private final int limit;
+        private volatile long elapsedNanos;
+        private Future<Results<T>> future;
+
+        Page(int offset, int limit) {
+            this.offset = offset;
+            this.limit = limit;
+        }
+    }
+}
@@ -2,10 +2,13 @@ package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonDocumentStream;
 import com.meilisearch.sdk.model.DocumentQuery;
 import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.TaskInfo;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -137,6 +140,31 @@ class Documents {
                 documentPath(uid).addQuery(param.toQuery()).getURL(), String.class);
     }
 
+    /**
+     * Writes a page of documents from the specified index as NDJSON, copying the bytes of the
+     * response as they are received
+     *
+     * @param uid Partial index identifier for the requested documents
+     * @param param accepted by the documents route
+     * @param out stream receiving one document per line
+     * @return number of documents written
+     * @throws MeilisearchException if the documents cannot be fetched or written
+     */
+    int exportDocuments(String uid, DocumentsQuery param, OutputStream out)
+            throws MeilisearchException {
+        return httpClient.get(
+                documentPath(uid).addQuery(param.toQuery()).getURL(),
+                (statusCode, body) -> {
+                    JsonDocumentStream documents = JsonDocumentStream.ofField(body, "results");
+                    int count = 0;
+                    while (documents.next(out)) {
+                        out.write('\n');
+                        count++;
+                    }
+                    return count;
+                });
+    }
+
     /**
      * Adds/Replaces a document at the specified index uid
      *
@@ -155,6 +183,24 @@ class Documents {
         return httpClient.post(urlb.getURL(), document, TaskInfo.class);
     }
 
+    /**
+     * Adds/Replaces documents at the specified index uid from a payload of any supported format
+     *
+     * @param uid Partial index identifier for the document
+     * @param documents HttpBody holding the documents as JSON, NDJSON or CSV
+     * @param primaryKey PrimaryKey of the document
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocuments(String uid, HttpBody documents, String primaryKey)
+            throws MeilisearchException {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        return httpClient.post(urlb.getURL(), documents, TaskInfo.class);
+    }
+
     /**
      * Replaces a document at the specified index uid
      *
@@ -173,6 +219,24 @@ class Documents {
         return httpClient.put(urlb.getURL(), document, TaskInfo.class);
     }
 
+    /**
+     * Updates documents at the specified index uid from a payload of any supported format
+     *
+     * @param uid Partial index identifier for the document
+     * @param documents HttpBody holding the documents as JSON, NDJSON or CSV
+     * @param primaryKey PrimaryKey of the document
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo updateDocuments(String uid, HttpBody documents, String primaryKey)
+            throws MeilisearchException {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        return httpClient.put(urlb.getURL(), documents, TaskInfo.class);
+    }
+
     /**
      * Deletes the document from the specified index uid with the specified identifier
      *
@@ -198,6 +262,19 @@ class Documents {
         return httpClient.post(urlb.getURL(), identifiers, TaskInfo.class);
     }
 
+    /**
+     * Deletes the documents at the specified index uid with the identifiers of a JSON array body
+     *
+     * @param uid Partial index identifier for the requested documents
+     * @param identifiers JSON array of the identifiers of the documents to delete
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo deleteDocuments(String uid, HttpBody identifiers) throws MeilisearchException {
+        URLBuilder urlb = documentPath(uid).addSubroute("delete-batch");
+        return httpClient.post(urlb.getURL(), identifiers, TaskInfo.class);
+    }
+
     /**
      * Deletes all documents at the specified index uid
      *
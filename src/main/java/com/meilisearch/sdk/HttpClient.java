@@ -11,6 +11,10 @@ import com.meilisearch.sdk.http.response.BasicResponse;
 import com.meilisearch.sdk.http.response.HttpResponse;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.json.JsonHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
@@ -82,6 +86,27 @@ public class HttpClient {
         return httpResponse.getContent();
     }
 
+    /**
+     * Gets the specified resource from the specified path, reading the response as it is received
+     *
+     * @param api Path to the requested resource
+     * @param reader reads the body of a successful response
+     * @return result of the reader
+     * @throws MeilisearchException if the response is an error
+     */
+    <T> T get(String api, CustomOkHttpClient.BodyReader<T> reader) throws MeilisearchException {
+        HttpRequest requestConfig = request.create(HttpMethod.GET, api, this.headers, null);
+        return this.client.execute(
+                requestConfig,
+                (statusCode, body) -> {
+                    if (statusCode >= 400) {
+                        throw new MeilisearchApiException(
+                                jsonHandler.decode(readAll(body), APIError.class));
+                    }
+                    return reader.read(statusCode, body);
+                });
+    }
+
     /**
      * Adds the specified resource to the specified path
      *
@@ -160,4 +185,13 @@ public class HttpClient {
         }
         return httpResponse.getContent();
     }
+
+    private static String readAll(InputStream body) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+            content.write(buffer, 0, read);
+        }
+        return new String(content.toByteArray(), StandardCharsets.UTF_8);
+    }
 }
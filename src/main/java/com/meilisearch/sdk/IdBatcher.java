@@ -0,0 +1,113 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.model.BatchOptions;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * Groups document identifiers into JSON array batches bounded in count and in bytes, as expected by
+ * the delete-batch route
+ */
+class IdBatcher implements BatchUploader.Source {
+    /** Identifiers read one at a time */
+    private interface IdSource {
+        /** @return false if there are no more identifiers, else writes the next one */
+        boolean next(JsonByteWriter writer);
+    }
+
+    private final IdSource ids;
+    private final int batchSize;
+    private final int maxBatchBytes;
+    private final JsonByteWriter writer = new JsonByteWriter(64 * 1024);
+    private final JsonByteWriter pending = new JsonByteWriter(64);
+    private boolean hasPending;
+
+    private IdBatcher(IdSource ids, BatchOptions options) {
+        if (options.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.ids = ids;
+        this.batchSize = options.getBatchSize();
+        this.maxBatchBytes = Math.min(options.getMaxBatchBytes(), options.getPayloadSizeLimit());
+    }
+
+    /**
+     * @param ids identifiers to batch
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     * @return IdBatcher
+     */
+    static IdBatcher of(Iterator<String> ids, BatchOptions options) {
+        return new IdBatcher(
+                writer -> {
+                    if (!ids.hasNext()) {
+                        return false;
+                    }
+                    writer.value(ids.next());
+                    return true;
+                },
+                options);
+    }
+
+    /**
+     * @param ids numeric identifiers to batch, read without boxing
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     * @return IdBatcher
+     */
+    static IdBatcher of(PrimitiveIterator.OfLong ids, BatchOptions options) {
+        return new IdBatcher(
+                writer -> {
+                    if (!ids.hasNext()) {
+                        return false;
+                    }
+                    writer.value(ids.nextLong());
+                    return true;
+                },
+                options);
+    }
+
+    /**
+     * @return the next batch as a UTF-8 encoded JSON array, or null if there are no more
+     *     identifiers
+     * @throws MeilisearchException if an identifier alone is larger than the payload size limit
+     */
+    @Override
+    public byte[] next() throws MeilisearchException {
+        writer.reset();
+        writer.beginArray();
+        int count = 0;
+        while (count < batchSize) {
+            if (!hasPending) {
+                pending.reset();
+                if (!ids.next(pending)) {
+                    break;
+                }
+                hasPending = true;
+            }
+            // separator, identifier and closing bracket
+            long batchBytes = writer.size() + (count == 0 ? 0 : 1) + pending.size() + 1;
+            if (batchBytes > maxBatchBytes) {
+                if (count > 0) {
+                    break;
+                }
+                throw new MeilisearchException(
+                        "An identifier of "
+                                + pending.size()
+                                + " bytes exceeds the batch size limit of "
+                                + maxBatchBytes
+                                + " bytes");
+            }
+            writer.rawValue(pending);
+            hasPending = false;
+            count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+        writer.endArray();
+        return writer.toByteArray();
+    }
+}
@@ -1,9 +1,15 @@
 package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonDocumentStream;
+import com.meilisearch.sdk.model.BatchOptions;
 import com.meilisearch.sdk.model.DocumentQuery;
+import com.meilisearch.sdk.model.DocumentsByIds;
 import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.IndexStats;
+import com.meilisearch.sdk.model.LazySearchResult;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.SearchResult;
 import com.meilisearch.sdk.model.Settings;
@@ -12,13 +18,29 @@ import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TasksQuery;
 import com.meilisearch.sdk.model.TasksResults;
 import com.meilisearch.sdk.model.TypoTolerance;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.Getter;
 import lombok.ToString;
-import org.json.JSONArray;
 
 /** Meilisearch index */
 @ToString
@@ -104,148 +126,922 @@ public class Index implements Serializable {
         return this.documents.getRawDocument(this.uid, identifier, param);
     }
 
+    /**
+     * Gets the documents with the specified identifiers, up to 5 at the same time and within 30
+     * seconds Refer https://docs.meilisearch.com/reference/api/documents.html#get-one-document
+     *
+     * @param <T> Type of documents returned
+     * @param identifiers Identifiers of the documents to get
+     * @param targetClass Class of documents returned
+     * @return one document per identifier, at the same position and null when not found, and
+     *     the identifiers not found
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> DocumentsByIds<T> getDocuments(Collection<String> identifiers, Class<T> targetClass)
+            throws MeilisearchException {
+        return this.getDocuments(identifiers, targetClass, 5, 30000);
+    }
+
+    /**
+     * Gets the documents with the specified identifiers Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-one-document
+     *
+     * <p>Each document is fetched by its own request, with at most {@code parallelism} requests at
+     * the same time over the pooled connections. Identifiers given several times are fetched once
+     * and their document repeated at each of their positions.
+     *
+     * @param <T> Type of documents returned
+     * @param identifiers Identifiers of the documents to get
+     * @param targetClass Class of documents returned
+     * @param parallelism maximum number of documents fetched at the same time
+     * @param timeoutInMs number of milliseconds allowed for all the documents
+     * @return one document per identifier, at the same position and null when not found, and
+     *     the identifiers not found
+     * @throws MeilisearchTimeoutException if the documents are not all fetched in time
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> DocumentsByIds<T> getDocuments(
+            Collection<String> identifiers, Class<T> targetClass, int parallelism, int timeoutInMs)
+            throws MeilisearchException {
+        return new MultiGet<T>(
+                        identifier -> this.documents.getDocument(this.uid, identifier, targetClass),
+                        parallelism,
+                        timeoutInMs)
+                .run(identifiers);
+    }
+
+    /**
+     * Gets documents at the specified index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @param <T> Type of documents returned
+     * @param targetClass Class of documents returned
+     * @return Results containing a list of Object containing the requested document
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> Results<T> getDocuments(Class<T> targetClass) throws MeilisearchException {
+        return this.documents.getDocuments(this.uid, targetClass);
+    }
+
     /**
      * Gets documents at the specified index Refer
      * https://docs.meilisearch.com/reference/api/documents.html#get-documents
      *
      * @param <T> Type of documents returned
+     * @param param accept by the documents route
      * @param targetClass Class of documents returned
      * @return Results containing a list of Object containing the requested document
      * @throws MeilisearchException if an error occurs
      */
-    public <T> Results<T> getDocuments(Class<T> targetClass) throws MeilisearchException {
-        return this.documents.getDocuments(this.uid, targetClass);
+    public <T> Results<T> getDocuments(DocumentsQuery param, Class<T> targetClass)
+            throws MeilisearchException {
+        return this.documents.getDocuments(this.uid, param, targetClass);
+    }
+
+    /**
+     * Exports all the documents of the index as NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * <p>Pages of documents are fetched one after the other and their bytes are copied to the
+     * stream as they are received, without being decoded, so the memory used does not depend on the
+     * number of documents. The stream is flushed but not closed.
+     *
+     * @param out stream receiving one document per line
+     * @param fields fields of the documents to export, or null for all
+     * @param pageSize number of documents fetched per request
+     * @return number of documents exported
+     * @throws MeilisearchException if the documents cannot be fetched or written
+     */
+    public long exportDocuments(OutputStream out, String[] fields, int pageSize)
+            throws MeilisearchException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        long exported = 0;
+        int count;
+        do {
+            DocumentsQuery query =
+                    new DocumentsQuery()
+                            .setOffset((int) exported)
+                            .setLimit(pageSize)
+                            .setFields(fields);
+            count = this.documents.exportDocuments(this.uid, query, buffered);
+            exported += count;
+        } while (count == pageSize);
+        try {
+            buffered.flush();
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+        return exported;
+    }
+
+    /**
+     * Exports all the documents of the index to a NDJSON file, as {@link
+     * #exportDocuments(OutputStream, String[], int)} Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @param file Path of the file to write, replaced if it exists
+     * @param fields fields of the documents to export, or null for all
+     * @param pageSize number of documents fetched per request
+     * @return number of documents exported
+     * @throws MeilisearchException if the documents cannot be fetched or written
+     */
+    public long exportDocuments(Path file, String[] fields, int pageSize)
+            throws MeilisearchException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            return this.exportDocuments(out, fields, pageSize);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    /**
+     * Copies the documents of this index to another index, page by page
+     *
+     * <p>Each page is read as NDJSON bytes, without being decoded, and sent to the target index
+     * while the next pages are read, up to {@code maxInFlight} at the same time.
+     *
+     * @param target index receiving the documents
+     * @param options batch options, {@code batchSize} is the page size, {@code maxInFlight}, {@code
+     *     queueCapacity} and {@code maxQueuedTasks} of the target index are used
+     * @return TaskInfo of every batch added to the target index
+     * @throws MeilisearchException if an error occurs
+     */
+    TaskInfo[] copyDocumentsTo(Index target, BatchOptions options) throws MeilisearchException {
+        int pageSize = options.getBatchSize();
+        BatchUploader.Source pages =
+                new BatchUploader.Source() {
+                    private int offset;
+                    private boolean done;
+
+                    @Override
+                    public byte[] next() throws MeilisearchException {
+                        if (done) {
+                            return null;
+                        }
+                        ByteArrayOutputStream page = new ByteArrayOutputStream();
+                        DocumentsQuery query =
+                                new DocumentsQuery().setOffset(offset).setLimit(pageSize);
+                        int count = documents.exportDocuments(uid, query, page);
+                        offset += count;
+                        done = count < pageSize;
+                        return count == 0 ? null : page.toByteArray();
+                    }
+                };
+        return new BatchUploader(
+                        target.throttled(
+                                batch ->
+                                        target.documents.addDocuments(
+                                                target.uid,
+                                                HttpBody.of(batch, HttpBody.NDJSON),
+                                                target.primaryKey),
+                                options),
+                        options)
+                .upload(pages);
+    }
+
+    /**
+     * Iterates over all the documents of the index, fetching the next page while the current one is
+     * consumed Refer https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @param <T> Type of documents returned
+     * @param targetClass Class of documents returned
+     * @return Iterator over the documents, throwing UncheckedMeilisearchException if a page cannot
+     *     be fetched
+     */
+    public <T> Iterator<T> iterateDocuments(Class<T> targetClass) {
+        return this.iterateDocuments(new DocumentsQuery(), targetClass, 1);
+    }
+
+    /**
+     * Iterates over the documents of the index, fetching the next pages while the current one is
+     * consumed Refer https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * <p>The page size starts at the limit of the query and adapts to the response time. Once the
+     * number of documents is known, up to {@code parallelism} pages of consecutive ranges are
+     * fetched at the same time. Documents are given in the order of the index.
+     *
+     * @param <T> Type of documents returned
+     * @param param offset of the first document, initial page size as limit, and fields
+     * @param targetClass Class of documents returned
+     * @param parallelism maximum number of pages fetched at the same time
+     * @return Iterator over the documents, throwing UncheckedMeilisearchException if a page cannot
+     *     be fetched
+     */
+    public <T> Iterator<T> iterateDocuments(
+            DocumentsQuery param, Class<T> targetClass, int parallelism) {
+        return this.documentPager(param, targetClass, parallelism);
+    }
+
+    /**
+     * Streams all the documents of the index, fetching the next page while the current one is
+     * consumed Refer https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @param <T> Type of documents returned
+     * @param targetClass Class of documents returned
+     * @return sequential Stream of the documents, to close if not consumed entirely
+     */
+    public <T> Stream<T> streamDocuments(Class<T> targetClass) {
+        return this.streamDocuments(new DocumentsQuery(), targetClass, 1);
+    }
+
+    /**
+     * Streams the documents of the index, fetching the next pages while the current one is
+     * consumed, as {@link #iterateDocuments(DocumentsQuery, Class, int)} Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @param <T> Type of documents returned
+     * @param param offset of the first document, initial page size as limit, and fields
+     * @param targetClass Class of documents returned
+     * @param parallelism maximum number of pages fetched at the same time
+     * @return sequential Stream of the documents, to close if not consumed entirely
+     */
+    public <T> Stream<T> streamDocuments(
+            DocumentsQuery param, Class<T> targetClass, int parallelism) {
+        DocumentPager<T> pager = this.documentPager(param, targetClass, parallelism);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(
+                                pager, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(pager::close);
+    }
+
+    private <T> DocumentPager<T> documentPager(
+            DocumentsQuery param, Class<T> targetClass, int parallelism) {
+        String[] fields = param.getFields();
+        return new DocumentPager<T>(
+                (offset, limit) ->
+                        this.documents.getDocuments(
+                                this.uid,
+                                new DocumentsQuery()
+                                        .setOffset(offset)
+                                        .setLimit(limit)
+                                        .setFields(fields),
+                                targetClass),
+                param.getOffset(),
+                param.getLimit(),
+                parallelism);
+    }
+
+    /**
+     * Gets documents as String at the specified index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @return String containing a list of documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public String getRawDocuments() throws MeilisearchException {
+        return this.documents.getRawDocuments(this.uid);
+    }
+
+    /**
+     * Gets documents as String at the specified index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     *
+     * @param param accept by the documents route
+     * @return String containing a list of documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public String getRawDocuments(DocumentsQuery param) throws MeilisearchException {
+        return this.documents.getRawDocuments(this.uid, param);
+    }
+
+    /**
+     * Adds/Replaces documents in the index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param document Document to add in JSON string format
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocuments(String document) throws MeilisearchException {
+        return this.documents.addDocuments(this.uid, document, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param document Document to add in JSON string format
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocuments(String document, String primaryKey) throws MeilisearchException {
+        return this.documents.addDocuments(this.uid, document, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches of 1000, encoding them with the JsonHandler
+     * of the configuration Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to add
+     * @return TaskInfo Meilisearch API response of every batch
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> TaskInfo[] addDocuments(Iterable<T> documents) throws MeilisearchException {
+        return this.addDocuments(documents.iterator(), new BatchOptions(), null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, encoding them with the JsonHandler of the
+     * configuration Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to add
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @return TaskInfo Meilisearch API response of every batch
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> TaskInfo[] addDocuments(Iterator<T> documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.addDocuments(documents, options, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, encoding them with the JsonHandler of the
+     * configuration Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>Documents are read from the iterator and encoded as the batches are filled, so only the
+     * batches waiting to be sent are held in memory.
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to add
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> TaskInfo[] addDocuments(
+            Iterator<T> documents, BatchOptions options, String primaryKey)
+            throws MeilisearchException {
+        return sendInBatches(
+                new DocumentBatcher(documents, config.getJsonHandler(), options),
+                options,
+                primaryKey,
+                false);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a payload of any supported format Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents HttpBody holding the documents as JSON, NDJSON or CSV
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocuments(HttpBody documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(this.uid, documents, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Documents in NDJSON format
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocumentsNdjson(String documents) throws MeilisearchException {
+        return this.addDocumentsNdjson(documents, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Documents in NDJSON format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocumentsNdjson(String documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.NDJSON), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from NDJSON streamed from a Reader, which is not closed
+     * Refer https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Reader over documents in NDJSON format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocumentsNdjson(Reader documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.NDJSON), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a NDJSON file streamed from disk Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Path of a file holding documents in NDJSON format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
+     */
+    public TaskInfo addDocumentsNdjson(Path documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.NDJSON), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from CSV Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Documents in CSV format
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocumentsCsv(String documents) throws MeilisearchException {
+        return this.addDocumentsCsv(documents, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from CSV Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Documents in CSV format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocumentsCsv(String documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.CSV), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from CSV streamed from a Reader, which is not closed
+     * Refer https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Reader over documents in CSV format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo addDocumentsCsv(Reader documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.CSV), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a CSV file streamed from disk Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Path of a file holding documents in CSV format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
+     */
+    public TaskInfo addDocumentsCsv(Path documents, String primaryKey) throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.CSV), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a NDJSON or CSV file, in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param documents Path of a file holding documents in NDJSON or CSV format
+     * @param format {@link HttpBody#NDJSON} or {@link HttpBody#CSV}
+     * @param batchBytes maximum size of a batch in bytes
+     * @return TaskInfo Meilisearch API response of every batch
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
+     */
+    public TaskInfo[] addDocumentsFromFile(Path documents, String format, int batchBytes)
+            throws MeilisearchException {
+        return this.addDocumentsFromFile(documents, format, batchBytes, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a NDJSON or CSV file, in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>The file is memory-mapped and split at line breaks, but for those within quoted CSV
+     * fields. Each batch is sent straight from the mapping so the heap used does not depend on the
+     * size of the file. A record longer than {@code batchBytes} is sent alone. Every CSV batch
+     * starts with the header line of the file.
+     *
+     * @param documents Path of a file holding documents in NDJSON or CSV format
+     * @param format {@link HttpBody#NDJSON} or {@link HttpBody#CSV}
+     * @param batchBytes maximum size of a batch in bytes
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the file
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
+     */
+    public TaskInfo[] addDocumentsFromFile(
+            Path documents, String format, int batchBytes, String primaryKey)
+            throws MeilisearchException {
+        return this.addDocumentsFromFile(
+                documents, format, new BatchOptions().setMaxBatchBytes(batchBytes), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a NDJSON or CSV file, in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>The file is memory-mapped and split at line breaks, but for those within quoted CSV
+     * fields. Each batch is sent straight from the mapping so the heap used does not depend on the
+     * size of the file. A record longer than {@code maxBatchBytes} is sent alone. Every CSV batch
+     * starts with the header line of the file. Batches are sent one at a time.
+     *
+     * @param documents Path of a file holding documents in NDJSON or CSV format
+     * @param format {@link HttpBody#NDJSON} or {@link HttpBody#CSV}
+     * @param options batch options, {@code maxBatchBytes} and {@code maxQueuedTasks} are used
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the file
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
+     */
+    public TaskInfo[] addDocumentsFromFile(
+            Path documents, String format, BatchOptions options, String primaryKey)
+            throws MeilisearchException {
+        QueueThrottle throttle = this.throttle(options);
+        List<TaskInfo> tasks = new ArrayList<TaskInfo>();
+        try (MappedFileBatcher batcher =
+                new MappedFileBatcher(documents, format, options.getMaxBatchBytes())) {
+            for (HttpBody batch = batcher.next(); batch != null; batch = batcher.next()) {
+                if (throttle != null) {
+                    throttle.await();
+                }
+                tasks.add(this.documents.addDocuments(this.uid, batch, primaryKey));
+            }
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+        return tasks.toArray(new TaskInfo[tasks.size()]);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a file, in batches, so that an interrupted run can
+     * be resumed Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>The progress is written to the checkpoint file after each batch. When called again with
+     * the same checkpoint, the tasks of the batches it records are checked: succeeded, enqueued and
+     * processing batches are not sent again, and the sending resumes from the first batch whose
+     * task failed or is unknown. The file must not change between runs. Batches are sent one at a
+     * time.
+     *
+     * @param documents Path of a file holding a JSON array of documents or NDJSON documents
+     * @param checkpoint Path of the checkpoint file, created if it does not exist
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes}, {@code
+     *     payloadSizeLimit} and {@code maxQueuedTasks} are used
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response of the batches sent by this call
+     * @throws MeilisearchException if an error occurs or if the task of a batch failed, the run can
+     *     then be resumed
+     */
+    public TaskInfo[] addDocumentsResumable(
+            Path documents, Path checkpoint, BatchOptions options, String primaryKey)
+            throws MeilisearchException {
+        return new ResumableIngestion(
+                        this.throttled(
+                                batch ->
+                                        this.documents.addDocuments(
+                                                this.uid, HttpBody.json(batch), primaryKey),
+                                options),
+                        this.tasksHandler::getTask,
+                        checkpoint,
+                        options)
+                .run(documents);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param batchSize size of the batch of documents
+     * @param document Document to add in JSON string format
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] addDocumentsInBatches(String document, Integer batchSize, String primaryKey)
+            throws MeilisearchException {
+        return this.addDocumentsInBatches(new StringReader(document), batchSize, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, streaming them from a JSON array or NDJSON
+     * Refer https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>Only one batch is held in memory at a time. The Reader is not closed.
+     *
+     * @param documents Reader over a JSON array of documents or NDJSON
+     * @param batchSize size of the batch of documents
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] addDocumentsInBatches(Reader documents, int batchSize, String primaryKey)
+            throws MeilisearchException {
+        return sendInBatches(
+                new JsonDocumentStream(documents),
+                new BatchOptions().setBatchSize(batchSize),
+                primaryKey,
+                false);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, streaming them from a JSON array or NDJSON
+     * Refer https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>Only one batch is held in memory at a time. The InputStream is not closed.
+     *
+     * @param documents UTF-8 encoded JSON array of documents or NDJSON
+     * @param batchSize size of the batch of documents
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] addDocumentsInBatches(InputStream documents, int batchSize, String primaryKey)
+            throws MeilisearchException {
+        return sendInBatches(
+                new JsonDocumentStream(documents),
+                new BatchOptions().setBatchSize(batchSize),
+                primaryKey,
+                false);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, streaming them from a JSON array or NDJSON
+     * and sending up to {@code options.maxInFlight} batches at the same time Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>The Reader is not closed.
+     *
+     * @param documents Reader over a JSON array of documents or NDJSON
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] addDocumentsInBatches(
+            Reader documents, BatchOptions options, String primaryKey) throws MeilisearchException {
+        return sendInBatches(new JsonDocumentStream(documents), options, primaryKey, false);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, streaming them from a JSON array or NDJSON
+     * and sending up to {@code options.maxInFlight} batches at the same time Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>The InputStream is not closed.
+     *
+     * @param documents UTF-8 encoded JSON array of documents or NDJSON
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @param primaryKey PrimaryKey of the document to add
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] addDocumentsInBatches(
+            InputStream documents, BatchOptions options, String primaryKey)
+            throws MeilisearchException {
+        return sendInBatches(new JsonDocumentStream(documents), options, primaryKey, false);
+    }
+
+    /**
+     * Adds/Replaces documents in index in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param document Document to add in JSON string format
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] addDocumentsInBatches(String document) throws MeilisearchException {
+        return this.addDocumentsInBatches(document, 1000, null);
+    }
+
+    /**
+     * Updates documents in the index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * @param document Document to update in JSON string format
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo updateDocuments(String document) throws MeilisearchException {
+        return this.documents.updateDocuments(this.uid, document, null);
+    }
+
+    /**
+     * Updates documents in the index Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * @param document Document to update in JSON string format
+     * @param primaryKey PrimaryKey of the document
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo updateDocuments(String document, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(this.uid, document, primaryKey);
+    }
+
+    /**
+     * Updates documents in the index in batches of 1000, encoding them with the JsonHandler of the
+     * configuration Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to update
+     * @return TaskInfo Meilisearch API response of every batch
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> TaskInfo[] updateDocuments(Iterable<T> documents) throws MeilisearchException {
+        return this.updateDocuments(documents.iterator(), new BatchOptions(), null);
+    }
+
+    /**
+     * Updates documents in the index in batches, encoding them with the JsonHandler of the
+     * configuration Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to update
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @return TaskInfo Meilisearch API response of every batch
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> TaskInfo[] updateDocuments(Iterator<T> documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.updateDocuments(documents, options, null);
     }
 
     /**
-     * Gets documents at the specified index Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     * Updates documents in the index in batches, encoding them with the JsonHandler of the
+     * configuration Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param <T> Type of documents returned
-     * @param param accept by the documents route
-     * @param targetClass Class of documents returned
-     * @return Results containing a list of Object containing the requested document
+     * <p>Documents are read from the iterator and encoded as the batches are filled, so only the
+     * batches waiting to be sent are held in memory.
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to update
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @param primaryKey PrimaryKey of the document to update
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
      * @throws MeilisearchException if an error occurs
      */
-    public <T> Results<T> getDocuments(DocumentsQuery param, Class<T> targetClass)
+    public <T> TaskInfo[] updateDocuments(
+            Iterator<T> documents, BatchOptions options, String primaryKey)
             throws MeilisearchException {
-        return this.documents.getDocuments(this.uid, param, targetClass);
+        return sendInBatches(
+                new DocumentBatcher(documents, config.getJsonHandler(), options),
+                options,
+                primaryKey,
+                true);
     }
 
     /**
-     * Gets documents as String at the specified index Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     * Updates documents in the index from a payload of any supported format Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @return String containing a list of documents
+     * @param documents HttpBody holding the documents as JSON, NDJSON or CSV
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public String getRawDocuments() throws MeilisearchException {
-        return this.documents.getRawDocuments(this.uid);
+    public TaskInfo updateDocuments(HttpBody documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(this.uid, documents, primaryKey);
     }
 
     /**
-     * Gets documents as String at the specified index Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#get-documents
+     * Updates documents in the index from NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param param accept by the documents route
-     * @return String containing a list of documents
+     * @param documents Documents in NDJSON format
+     * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public String getRawDocuments(DocumentsQuery param) throws MeilisearchException {
-        return this.documents.getRawDocuments(this.uid, param);
+    public TaskInfo updateDocumentsNdjson(String documents) throws MeilisearchException {
+        return this.updateDocumentsNdjson(documents, null);
     }
 
     /**
-     * Adds/Replaces documents in the index Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     * Updates documents in the index from NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param document Document to add in JSON string format
+     * @param documents Documents in NDJSON format
+     * @param primaryKey PrimaryKey of the documents
      * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public TaskInfo addDocuments(String document) throws MeilisearchException {
-        return this.documents.addDocuments(this.uid, document, null);
+    public TaskInfo updateDocumentsNdjson(String documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.NDJSON), primaryKey);
     }
 
     /**
-     * Adds/Replaces documents in the index Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     * Updates documents in the index from NDJSON streamed from a Reader, which is not closed Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param document Document to add in JSON string format
-     * @param primaryKey PrimaryKey of the document to add
+     * @param documents Reader over documents in NDJSON format
+     * @param primaryKey PrimaryKey of the documents
      * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public TaskInfo addDocuments(String document, String primaryKey) throws MeilisearchException {
-        return this.documents.addDocuments(this.uid, document, primaryKey);
+    public TaskInfo updateDocumentsNdjson(Reader documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.NDJSON), primaryKey);
     }
 
     /**
-     * Adds/Replaces documents in the index in batches Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     * Updates documents in the index from a NDJSON file streamed from disk Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param batchSize size of the batch of documents
-     * @param document Document to add in JSON string format
-     * @param primaryKey PrimaryKey of the document to add
+     * @param documents Path of a file holding documents in NDJSON format
+     * @param primaryKey PrimaryKey of the documents
      * @return TaskInfo Meilisearch API response
-     * @throws MeilisearchException if an error occurs
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
      */
-    public TaskInfo[] addDocumentsInBatches(String document, Integer batchSize, String primaryKey)
+    public TaskInfo updateDocumentsNdjson(Path documents, String primaryKey)
             throws MeilisearchException {
-
-        JSONArray jsonDocumentsArray = new JSONArray(document);
-        JSONArray jsonSubArray = new JSONArray();
-        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
-
-        batchSize =
-                jsonDocumentsArray.length() < batchSize ? jsonDocumentsArray.length() : batchSize;
-
-        for (int i = 0; i < jsonDocumentsArray.length(); i += batchSize) {
-            for (int j = 0; j < batchSize && j + i < jsonDocumentsArray.length(); j++) {
-                jsonSubArray.put(j, jsonDocumentsArray.get(i + j));
-            }
-            arrayResponses.add(
-                    this.documents.addDocuments(this.uid, jsonSubArray.toString(), primaryKey));
-        }
-        return arrayResponses.toArray(new TaskInfo[arrayResponses.size()]);
+        return this.documents.updateDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.NDJSON), primaryKey);
     }
 
     /**
-     * Adds/Replaces documents in index in batches Refer
-     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     * Updates documents in the index from CSV Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param document Document to add in JSON string format
+     * @param documents Documents in CSV format
      * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public TaskInfo[] addDocumentsInBatches(String document) throws MeilisearchException {
-        return this.addDocumentsInBatches(document, 1000, null);
+    public TaskInfo updateDocumentsCsv(String documents) throws MeilisearchException {
+        return this.updateDocumentsCsv(documents, null);
     }
 
     /**
-     * Updates documents in the index Refer
+     * Updates documents in the index from CSV Refer
      * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param document Document to update in JSON string format
+     * @param documents Documents in CSV format
+     * @param primaryKey PrimaryKey of the documents
      * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public TaskInfo updateDocuments(String document) throws MeilisearchException {
-        return this.documents.updateDocuments(this.uid, document, null);
+    public TaskInfo updateDocumentsCsv(String documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.CSV), primaryKey);
     }
 
     /**
-     * Updates documents in the index Refer
+     * Updates documents in the index from CSV streamed from a Reader, which is not closed Refer
      * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
      *
-     * @param document Document to update in JSON string format
-     * @param primaryKey PrimaryKey of the document
+     * @param documents Reader over documents in CSV format
+     * @param primaryKey PrimaryKey of the documents
      * @return TaskInfo Meilisearch API response
      * @throws MeilisearchException if an error occurs
      */
-    public TaskInfo updateDocuments(String document, String primaryKey)
+    public TaskInfo updateDocumentsCsv(Reader documents, String primaryKey)
             throws MeilisearchException {
-        return this.documents.updateDocuments(this.uid, document, primaryKey);
+        return this.documents.updateDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.CSV), primaryKey);
+    }
+
+    /**
+     * Updates documents in the index from a CSV file streamed from disk Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * @param documents Path of a file holding documents in CSV format
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs, including when the file cannot be read
+     */
+    public TaskInfo updateDocumentsCsv(Path documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid, HttpBody.of(documents, HttpBody.CSV), primaryKey);
     }
 
     /**
@@ -260,22 +1056,88 @@ public class Index implements Serializable {
      */
     public TaskInfo[] updateDocumentsInBatches(
             String document, Integer batchSize, String primaryKey) throws MeilisearchException {
+        return this.updateDocumentsInBatches(new StringReader(document), batchSize, primaryKey);
+    }
+
+    /**
+     * Updates documents in the index in batches, streaming them from a JSON array or NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * <p>Only one batch is held in memory at a time. The Reader is not closed.
+     *
+     * @param documents Reader over a JSON array of documents or NDJSON
+     * @param batchSize size of the batch of documents
+     * @param primaryKey PrimaryKey of the document to update
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] updateDocumentsInBatches(Reader documents, int batchSize, String primaryKey)
+            throws MeilisearchException {
+        return sendInBatches(
+                new JsonDocumentStream(documents),
+                new BatchOptions().setBatchSize(batchSize),
+                primaryKey,
+                true);
+    }
 
-        JSONArray jsonDocumentsArray = new JSONArray(document);
-        JSONArray jsonSubArray = new JSONArray();
-        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
+    /**
+     * Updates documents in the index in batches, streaming them from a JSON array or NDJSON Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * <p>Only one batch is held in memory at a time. The InputStream is not closed.
+     *
+     * @param documents UTF-8 encoded JSON array of documents or NDJSON
+     * @param batchSize size of the batch of documents
+     * @param primaryKey PrimaryKey of the document to update
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] updateDocumentsInBatches(
+            InputStream documents, int batchSize, String primaryKey) throws MeilisearchException {
+        return sendInBatches(
+                new JsonDocumentStream(documents),
+                new BatchOptions().setBatchSize(batchSize),
+                primaryKey,
+                true);
+    }
 
-        batchSize =
-                jsonDocumentsArray.length() < batchSize ? jsonDocumentsArray.length() : batchSize;
+    /**
+     * Updates documents in the index in batches, streaming them from a JSON array or NDJSON and
+     * sending up to {@code options.maxInFlight} batches at the same time Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * <p>The Reader is not closed.
+     *
+     * @param documents Reader over a JSON array of documents or NDJSON
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @param primaryKey PrimaryKey of the document to update
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] updateDocumentsInBatches(
+            Reader documents, BatchOptions options, String primaryKey) throws MeilisearchException {
+        return sendInBatches(new JsonDocumentStream(documents), options, primaryKey, true);
+    }
 
-        for (int i = 0; i < jsonDocumentsArray.length(); i += batchSize) {
-            for (int j = 0; j < batchSize && j + i < jsonDocumentsArray.length(); j++) {
-                jsonSubArray.put(j, jsonDocumentsArray.get(i + j));
-            }
-            arrayResponses.add(
-                    this.documents.updateDocuments(this.uid, jsonSubArray.toString(), primaryKey));
-        }
-        return arrayResponses.toArray(new TaskInfo[arrayResponses.size()]);
+    /**
+     * Updates documents in the index in batches, streaming them from a JSON array or NDJSON and
+     * sending up to {@code options.maxInFlight} batches at the same time Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * <p>The InputStream is not closed.
+     *
+     * @param documents UTF-8 encoded JSON array of documents or NDJSON
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @param primaryKey PrimaryKey of the document to update
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] updateDocumentsInBatches(
+            InputStream documents, BatchOptions options, String primaryKey)
+            throws MeilisearchException {
+        return sendInBatches(new JsonDocumentStream(documents), options, primaryKey, true);
     }
 
     /**
@@ -290,6 +1152,214 @@ public class Index implements Serializable {
         return this.updateDocumentsInBatches(document, 1000, null);
     }
 
+    private TaskInfo[] sendInBatches(
+            JsonDocumentStream documents, BatchOptions options, String primaryKey, boolean update)
+            throws MeilisearchException {
+        return sendInBatches(new DocumentBatcher(documents, options), options, primaryKey, update);
+    }
+
+    private TaskInfo[] sendInBatches(
+            DocumentBatcher batcher, BatchOptions options, String primaryKey, boolean update)
+            throws MeilisearchException {
+        return sendInBatches(batcher, options, primaryKey, update, UnaryOperator.identity());
+    }
+
+    /**
+     * @param decorator wraps the sender of the batches, such as to measure it
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     */
+    TaskInfo[] sendInBatches(
+            DocumentBatcher batcher,
+            BatchOptions options,
+            String primaryKey,
+            boolean update,
+            UnaryOperator<BatchUploader.Sender> decorator)
+            throws MeilisearchException {
+        if (options.getDeadLetterSink() != null) {
+            batcher.setPreflight(
+                    new PrimaryKeyPreflight(
+                            this.knownPrimaryKey(primaryKey),
+                            options.getDeadLetterSink(),
+                            !update));
+        }
+        BatchUploader.Sender sender =
+                decorator.apply(
+                        this.throttled(
+                                batch ->
+                                        update
+                                                ? this.documents.updateDocuments(
+                                                        this.uid, HttpBody.json(batch), primaryKey)
+                                                : this.documents.addDocuments(
+                                                        this.uid, HttpBody.json(batch), primaryKey),
+                                options));
+        if (options.isAdaptive()) {
+            AdaptiveBatching adaptive = new AdaptiveBatching(this.tasksHandler::getTask, options);
+            return new BatchUploader(adaptive.sender(sender), options)
+                    .upload(adaptive.source(batcher));
+        }
+        return new BatchUploader(sender, options).upload(batcher);
+    }
+
+    /** @return sender waiting for the task queue of the index when {@code maxQueuedTasks} is set */
+    private BatchUploader.Sender throttled(BatchUploader.Sender sender, BatchOptions options) {
+        QueueThrottle throttle = this.throttle(options);
+        return throttle == null ? sender : throttle.sender(sender);
+    }
+
+    /** @return throttle of the task queue of the index, or null if {@code maxQueuedTasks} is 0 */
+    private QueueThrottle throttle(BatchOptions options) {
+        return options.getMaxQueuedTasks() > 0
+                ? new QueueThrottle(this.tasksHandler::getTasks, this.uid, options)
+                : null;
+    }
+
+    /**
+     * Creates a BulkIndexer buffering documents of this index given one at a time and sending them
+     * in batches of at most 1000 documents, or after one second
+     *
+     * @param listener receives the TaskInfo of each batch and the failures
+     * @return BulkIndexer to close once all the documents are given
+     */
+    public BulkIndexer bulkIndexer(BulkIndexer.Listener listener) {
+        return this.bulkIndexer(new BatchOptions(), null, listener);
+    }
+
+    /**
+     * Creates a BulkIndexer buffering documents of this index given one at a time and sending them
+     * in batches
+     *
+     * @param options size of the batches, longest time a document is buffered and {@code
+     *     maxQueuedTasks}
+     * @param primaryKey PrimaryKey of the documents
+     * @param listener receives the TaskInfo of each batch and the failures
+     * @return BulkIndexer to close once all the documents are given
+     */
+    public BulkIndexer bulkIndexer(
+            BatchOptions options, String primaryKey, BulkIndexer.Listener listener) {
+        return new BulkIndexer(
+                this.documents,
+                this.tasksHandler::getTasks,
+                this.uid,
+                primaryKey,
+                config.getJsonHandler(),
+                options,
+                listener);
+    }
+
+    /**
+     * Creates an IngestionPipeline preparing documents of this index on worker threads before
+     * adding them in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * @param <S> type of the documents read from the source
+     * @param options size of the batches and number of batches sent at the same time, above one
+     *     the batches may be enqueued out of order, see {@link BatchOptions}
+     * @return IngestionPipeline to declare the stages of, then to run
+     */
+    public <S> IngestionPipeline<S, S> ingestionPipeline(BatchOptions options) {
+        return new IngestionPipeline<S, S>(this, config.getJsonHandler(), options);
+    }
+
+    /**
+     * Creates a CoalescingIndexer buffering documents of this index by primary key and sending only
+     * their last state at the end of each flush window. The primary key of the index is fetched if
+     * it is not known yet.
+     *
+     * @param options length of the flush window, in {@code lingerMs}, size of the batches and
+     *     {@code maxQueuedTasks}
+     * @param listener receives the TaskInfo of each batch and the failures
+     * @return CoalescingIndexer to close once all the documents are given
+     * @throws MeilisearchException if the primary key of the index cannot be fetched
+     */
+    public CoalescingIndexer coalescingIndexer(BatchOptions options, BulkIndexer.Listener listener)
+            throws MeilisearchException {
+        return new CoalescingIndexer(
+                this.documents,
+                this.tasksHandler::getTasks,
+                this.uid,
+                this.knownPrimaryKey(null),
+                config.getJsonHandler(),
+                options,
+                listener);
+    }
+
+    /** @return the given primary key, else the one of the index, fetched if not known yet */
+    private String knownPrimaryKey(String primaryKey) throws MeilisearchException {
+        if (primaryKey != null) {
+            return primaryKey;
+        }
+        if (this.primaryKey == null) {
+            this.fetchPrimaryKey();
+        }
+        if (this.primaryKey == null) {
+            throw new MeilisearchException("Index " + this.uid + " has no primary key yet");
+        }
+        return this.primaryKey;
+    }
+
+    /**
+     * Creates a PartialUpdate recording field changes of documents of this index and sending only
+     * those fields Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-update-documents
+     *
+     * <p>The primary key of the index is fetched if it is not known yet.
+     *
+     * @return PartialUpdate to send once the changes are recorded
+     * @throws MeilisearchException if the primary key of the index cannot be fetched
+     */
+    public PartialUpdate partialUpdate() throws MeilisearchException {
+        return new PartialUpdate(
+                this.documents,
+                this.tasksHandler::getTasks,
+                this.uid,
+                this.knownPrimaryKey(null),
+                config.getJsonHandler());
+    }
+
+    /**
+     * Synchronizes the index with a full set of documents, sending only what changed since the
+     * previous synchronization Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#add-or-replace-documents
+     *
+     * <p>The identifier and a hash of the content of every document are kept in the hash store
+     * file, outside of the heap. New and changed documents are added or replaced in batches, and
+     * the documents of the previous synchronization that are not given anymore are deleted. The
+     * call waits up to {@code taskTimeoutMs} for every task; the hash store is only replaced once
+     * they all succeeded. The primary key of the index is fetched if it is not known yet.
+     *
+     * @param documents every document the index should hold
+     * @param hashStore Path of the hash store file, created if it does not exist
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes}, {@code
+     *     payloadSizeLimit}, {@code maxInFlight}, {@code maxQueuedTasks} and {@code taskTimeoutMs}
+     *     are used
+     * @param <T> type of the documents
+     * @return TaskInfo Meilisearch API response of the batches of changed documents then of the
+     *     deletions
+     * @throws MeilisearchException if an error occurs, if a task failed or if a task is not
+     *     finished within {@code taskTimeoutMs}
+     */
+    public <T> TaskInfo[] syncDocuments(Iterator<T> documents, Path hashStore, BatchOptions options)
+            throws MeilisearchException {
+        String primaryKey = this.knownPrimaryKey(null);
+        QueueThrottle throttle = this.throttle(options);
+        BatchUploader.Sender sender =
+                batch -> this.documents.addDocuments(this.uid, HttpBody.json(batch), primaryKey);
+        return new DeltaSync(
+                        throttle == null ? sender : throttle.sender(sender),
+                        ids -> {
+                            if (throttle != null) {
+                                throttle.await();
+                            }
+                            return this.documents.deleteDocuments(this.uid, ids);
+                        },
+                        this.tasksHandler::getTask,
+                        primaryKey,
+                        config.getJsonHandler(),
+                        hashStore,
+                        options)
+                .run(documents);
+    }
+
     /**
      * Deletes a document from the index Refer
      * https://docs.meilisearch.com/reference/api/documents.html#delete-one-document
@@ -314,6 +1384,58 @@ public class Index implements Serializable {
         return this.documents.deleteDocuments(this.uid, documentsIdentifiers);
     }
 
+    /**
+     * Deletes documents from the index in batches Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#delete-documents-by-batch
+     *
+     * <p>The identifiers are read one at a time and grouped into requests of at most {@code
+     * batchSize} identifiers and {@code maxBatchBytes} bytes, up to {@code maxInFlight} of them
+     * being sent at the same time.
+     *
+     * @param documentsIdentifiers identifiers of the documents to delete
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes}, {@code
+     *     payloadSizeLimit}, {@code maxInFlight}, {@code queueCapacity} and {@code maxQueuedTasks}
+     *     are used
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the identifiers
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] deleteDocumentsInBatches(
+            Iterator<String> documentsIdentifiers, BatchOptions options)
+            throws MeilisearchException {
+        return this.deleteInBatches(IdBatcher.of(documentsIdentifiers, options), options);
+    }
+
+    /**
+     * Deletes documents with numeric identifiers from the index in batches, without boxing the
+     * identifiers Refer
+     * https://docs.meilisearch.com/reference/api/documents.html#delete-documents-by-batch
+     *
+     * @param documentsIdentifiers identifiers of the documents to delete, such as {@code
+     *     LongStream.iterator()}
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes}, {@code
+     *     payloadSizeLimit}, {@code maxInFlight}, {@code queueCapacity} and {@code maxQueuedTasks}
+     *     are used
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the identifiers
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] deleteDocumentsInBatches(
+            PrimitiveIterator.OfLong documentsIdentifiers, BatchOptions options)
+            throws MeilisearchException {
+        return this.deleteInBatches(IdBatcher.of(documentsIdentifiers, options), options);
+    }
+
+    private TaskInfo[] deleteInBatches(IdBatcher batcher, BatchOptions options)
+            throws MeilisearchException {
+        return new BatchUploader(
+                        this.throttled(
+                                batch ->
+                                        this.documents.deleteDocuments(
+                                                this.uid, HttpBody.json(batch)),
+                                options),
+                        options)
+                .upload(batcher);
+    }
+
     /**
      * Deletes all documents in the index Refer
      * https://docs.meilisearch.com/reference/api/documents.html#delete-all-documents
@@ -349,6 +1471,92 @@ public class Index implements Serializable {
         return this.search.search(this.uid, searchRequest);
     }
 
+    /**
+     * Searches documents in the index and decodes hits only when they are accessed Refer
+     * https://docs.meilisearch.com/reference/api/search.html#search-in-an-index-with-post-route
+     *
+     * @param q Query string
+     * @return Meilisearch API response with hits decoded on demand
+     * @throws MeilisearchException if an error occurs
+     */
+    public LazySearchResult lazySearch(String q) throws MeilisearchException {
+        return this.search.lazySearch(this.uid, q);
+    }
+
+    /**
+     * Searches documents in the index and decodes hits only when they are accessed Refer
+     * https://docs.meilisearch.com/reference/api/search.html#search-in-an-index-with-post-route
+     *
+     * @param searchRequest SearchRequest SearchRequest
+     * @return Meilisearch API response with hits decoded on demand
+     * @throws MeilisearchException if an error occurs
+     */
+    public LazySearchResult lazySearch(SearchRequest searchRequest) throws MeilisearchException {
+        return this.search.lazySearch(this.uid, searchRequest);
+    }
+
+    /**
+     * Searches documents in the index with a pre-serialized request Refer
+     * https://docs.meilisearch.com/reference/api/search.html#search-in-an-index-with-post-route
+     *
+     * @param template SearchTemplate holding every parameter but the query
+     * @param q Query string
+     * @return Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public SearchResult search(SearchTemplate template, String q) throws MeilisearchException {
+        return this.search.search(this.uid, template, q, template.getOffset(), template.getLimit());
+    }
+
+    /**
+     * Searches documents in the index with a pre-serialized request Refer
+     * https://docs.meilisearch.com/reference/api/search.html#search-in-an-index-with-post-route
+     *
+     * @param template SearchTemplate holding every parameter but the query and pagination
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    public SearchResult search(SearchTemplate template, String q, int offset, int limit)
+            throws MeilisearchException {
+        return this.search.search(this.uid, template, q, offset, limit);
+    }
+
+    /**
+     * Searches documents in the index with a pre-serialized request and decodes hits only when they
+     * are accessed Refer
+     * https://docs.meilisearch.com/reference/api/search.html#search-in-an-index-with-post-route
+     *
+     * @param template SearchTemplate holding every parameter but the query
+     * @param q Query string
+     * @return Meilisearch API response with hits decoded on demand
+     * @throws MeilisearchException if an error occurs
+     */
+    public LazySearchResult lazySearch(SearchTemplate template, String q)
+            throws MeilisearchException {
+        return this.search.lazySearch(
+                this.uid, template, q, template.getOffset(), template.getLimit());
+    }
+
+    /**
+     * Searches documents in the index with a pre-serialized request and decodes hits only when they
+     * are accessed Refer
+     * https://docs.meilisearch.com/reference/api/search.html#search-in-an-index-with-post-route
+     *
+     * @param template SearchTemplate holding every parameter but the query and pagination
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return Meilisearch API response with hits decoded on demand
+     * @throws MeilisearchException if an error occurs
+     */
+    public LazySearchResult lazySearch(SearchTemplate template, String q, int offset, int limit)
+            throws MeilisearchException {
+        return this.search.lazySearch(this.uid, template, q, offset, limit);
+    }
+
     public String rawSearch(String query) throws MeilisearchException {
         return this.search.rawSearch(this.uid, query);
     }
@@ -357,6 +1565,11 @@ public class Index implements Serializable {
         return this.search.rawSearch(this.uid, searchRequest);
     }
 
+    public String rawSearch(SearchTemplate template, String q, int offset, int limit)
+            throws MeilisearchException {
+        return this.search.rawSearch(this.uid, template, q, offset, limit);
+    }
+
     /**
      * Gets the settings of the index Refer
      * https://docs.meilisearch.com/reference/api/settings.html#get-settings
@@ -4,6 +4,7 @@ import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.http.URLBuilder;
 import com.meilisearch.sdk.model.IndexesQuery;
 import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.SwapIndexesParams;
 import com.meilisearch.sdk.model.TaskInfo;
 import java.util.HashMap;
 
@@ -121,6 +122,17 @@ class IndexesHandler {
         return httpClient.delete(indexesPath().addSubroute(uid).getURL(), TaskInfo.class);
     }
 
+    /**
+     * Swaps the documents, settings and task history of pairs of indexes
+     *
+     * @param params pairs of indexes to swap
+     * @return Meilisearch API response as TaskInfo
+     * @throws MeilisearchException if an error occurs
+     */
+    TaskInfo swapIndexes(SwapIndexesParams[] params) throws MeilisearchException {
+        return httpClient.post(new URLBuilder("/swap-indexes").getURL(), params, TaskInfo.class);
+    }
+
     /** Creates an URLBuilder for the constant route indexes */
     private URLBuilder indexesPath() {
         return new URLBuilder("/indexes");
@@ -0,0 +1,349 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.StageMetrics;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prepares documents on worker threads and adds them to an index in batches
+ *
+ * <p>A feeder thread reads the source and hands chunks of documents to {@code parallelism} worker
+ * threads, which run the transform and validation stages in the order they were declared, then
+ * encode the documents with the JsonHandler of the configuration. The calling thread groups the
+ * encoded documents into batches, in the order of the source, while the batches already prepared
+ * are being uploaded. At most {@code queueCapacity} chunks wait between the feeder and the batcher,
+ * so a slow stage or a slow server slows down the reading of the source.
+ *
+ * <p>The time spent and the number of documents of every stage are measured, see {@link
+ * #getMetrics()}. A pipeline can be run several times but not concurrently.
+ *
+ * @param <S> type of the documents read from the source
+ * @param <T> type of the documents given to the next stage
+ */
+public class IngestionPipeline<S, T> {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final int CHUNK_SIZE = 256;
+    private static final Future<List<byte[]>> END = CompletableFuture.completedFuture(null);
+
+    /** Transforms a document, such as flattening it or pruning its fields */
+    public interface Transform<T, R> {
+        /**
+         * @param document document given by the previous stage
+         * @return transformed document, or null to drop it
+         * @throws MeilisearchException if the document cannot be transformed
+         */
+        R apply(T document) throws MeilisearchException;
+    }
+
+    /** Checks a document, such as the presence of its primary key */
+    public interface Validator<T> {
+        /**
+         * @param document document given by the previous stage
+         * @throws MeilisearchException if the document is not valid, the pipeline then fails
+         */
+        void validate(T document) throws MeilisearchException;
+    }
+
+    private final Index index;
+    private final JsonHandler jsonHandler;
+    private final BatchOptions options;
+    private final List<Stage> stages = new ArrayList<Stage>();
+    private final Meter source = new Meter("source");
+    private final Meter encode = new Meter("encode");
+    private final Meter upload = new Meter("upload");
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = -1;
+
+    IngestionPipeline(Index index, JsonHandler jsonHandler, BatchOptions options) {
+        this.index = index;
+        this.jsonHandler = jsonHandler;
+        this.options = options;
+    }
+
+    /**
+     * Adds a transform stage
+     *
+     * @param name name of the stage in the metrics
+     * @param transform transforms each document, on the worker threads
+     * @param <R> type of the transformed documents
+     * @return this pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public <R> IngestionPipeline<S, R> transform(
+            String name, Transform<? super T, ? extends R> transform) {
+        stages.add(new Stage(name, (Transform<Object, Object>) transform));
+        return (IngestionPipeline<S, R>) this;
+    }
+
+    /**
+     * Adds a validation stage
+     *
+     * @param name name of the stage in the metrics
+     * @param validator checks each document, on the worker threads
+     * @return this pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public IngestionPipeline<S, T> validate(String name, Validator<? super T> validator) {
+        Validator<Object> check = (Validator<Object>) validator;
+        stages.add(
+                new Stage(
+                        name,
+                        document -> {
+                            check.validate(document);
+                            return document;
+                        }));
+        return this;
+    }
+
+    /**
+     * @param parallelism number of worker threads, the number of processors by default
+     * @return this pipeline
+     */
+    public IngestionPipeline<S, T> setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param queueCapacity number of chunks of documents prepared ahead of the batcher, twice the
+     *     parallelism by default
+     * @return this pipeline
+     */
+    public IngestionPipeline<S, T> setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Runs the documents through the stages and adds them to the index
+     *
+     * @param documents source of the documents, read by a feeder thread
+     * @param primaryKey PrimaryKey of the documents
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if a stage fails or an error occurs, the documents not sent yet
+     *     are then dropped
+     */
+    public TaskInfo[] run(Iterator<? extends S> documents, String primaryKey)
+            throws MeilisearchException {
+        BlockingQueue<Future<List<byte[]>>> chunks =
+                new ArrayBlockingQueue<Future<List<byte[]>>>(
+                        queueCapacity > 0 ? queueCapacity : 2 * parallelism);
+        ThreadPoolExecutor workers = workers();
+        Thread feeder =
+                new Thread(
+                        () -> feed(documents, workers, chunks),
+                        "meilisearch-ingestion-feeder-" + THREADS.incrementAndGet());
+        feeder.setDaemon(true);
+        feeder.start();
+        try {
+            return index.sendInBatches(
+                    new DocumentBatcher(new Prepared(chunks), options),
+                    options,
+                    primaryKey,
+                    false,
+                    upload::wrap);
+        } finally {
+            feeder.interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * @return metrics of the source, of every stage in their order, of the encoding and of the
+     *     upload, counted over all the runs
+     */
+    public StageMetrics[] getMetrics() {
+        List<StageMetrics> metrics = new ArrayList<StageMetrics>();
+        metrics.add(source.snapshot());
+        for (Stage stage : stages) {
+            metrics.add(stage.meter.snapshot());
+        }
+        metrics.add(encode.snapshot());
+        metrics.add(upload.snapshot());
+        return metrics.toArray(new StageMetrics[metrics.size()]);
+    }
+
+    /** Reads the source by chunks and submits them to the workers, then adds the end marker */
+    private void feed(
+            Iterator<?> documents,
+            ThreadPoolExecutor workers,
+            BlockingQueue<Future<List<byte[]>>> chunks) {
+        try {
+            while (true) {
+                List<Object> chunk = new ArrayList<Object>(CHUNK_SIZE);
+                long start = System.nanoTime();
+                while (chunk.size() < CHUNK_SIZE && documents.hasNext()) {
+                    chunk.add(documents.next());
+                }
+                source.record(chunk.size(), 0, System.nanoTime() - start);
+                if (chunk.isEmpty()) {
+                    chunks.put(END);
+                    return;
+                }
+                chunks.put(workers.submit(() -> prepare(chunk)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            // the batcher waits for a chunk or the end marker, whatever stops the source
+            CompletableFuture<List<byte[]>> failed = new CompletableFuture<List<byte[]>>();
+            failed.completeExceptionally(e);
+            try {
+                chunks.put(failed);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Runs a chunk through the stages and encodes the remaining documents */
+    private List<byte[]> prepare(List<Object> chunk) throws MeilisearchException {
+        List<Object> current = chunk;
+        for (Stage stage : stages) {
+            List<Object> next = new ArrayList<Object>(current.size());
+            long start = System.nanoTime();
+            for (Object document : current) {
+                Object result = stage.transform.apply(document);
+                if (result != null) {
+                    next.add(result);
+                }
+            }
+            stage.meter.record(
+                    current.size(), current.size() - next.size(), System.nanoTime() - start);
+            current = next;
+        }
+        List<byte[]> encoded = new ArrayList<byte[]>(current.size());
+        long start = System.nanoTime();
+        for (Object document : current) {
+            encoded.add(jsonHandler.encodeToBytes(document));
+        }
+        encode.record(current.size(), 0, System.nanoTime() - start);
+        return encoded;
+    }
+
+    private ThreadPoolExecutor workers() {
+        return new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                1L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                runnable -> {
+                    Thread thread =
+                            new Thread(
+                                    runnable,
+                                    "meilisearch-ingestion-worker-" + THREADS.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /** Encoded documents taken from the chunks in the order of the source */
+    private static final class Prepared implements DocumentBatcher.DocumentSource {
+        private final BlockingQueue<Future<List<byte[]>>> chunks;
+        private List<byte[]> chunk;
+        private int position;
+        private boolean done;
+
+        Prepared(BlockingQueue<Future<List<byte[]>>> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public int peekSize() throws MeilisearchException {
+            while (!done && (chunk == null || position >= chunk.size())) {
+                chunk = take();
+                position = 0;
+                done = chunk == null;
+            }
+            return done ? -1 : chunk.get(position).length;
+        }
+
+        @Override
+        public void next(JsonByteWriter writer) {
+            byte[] document = chunk.get(position++);
+            writer.rawValue(document, 0, document.length);
+        }
+
+        private List<byte[]> take() throws MeilisearchException {
+            try {
+                return chunks.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof MeilisearchException) {
+                    throw (MeilisearchException) cause;
+                }
+                throw new MeilisearchException(cause);
+            }
+        }
+    }
+
+    /** Transform or validation stage */
+    private static final class Stage {
+        private final Transform<Object, Object> transform;
+        private final Meter meter;
+
+        Stage(String name, Transform<Object, Object> transform) {
+            this.transform = transform;
+            this.meter = new Meter(name);
+        }
+    }
+
+    /** Counters of a stage, updated from several threads */
+    private static final class Meter {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        Meter(String name) {
+            this.name = name;
+        }
+
+        void record(long count, long dropped, long nanos) {
+            this.count.add(count);
+            this.dropped.add(dropped);
+            this.nanos.add(nanos);
+        }
+
+        BatchUploader.Sender wrap(BatchUploader.Sender sender) {
+            return batch -> {
+                long start = System.nanoTime();
+                try {
+                    return sender.send(batch);
+                } finally {
+                    record(1, 0, System.nanoTime() - start);
+                }
+            };
+        }
+
+        StageMetrics snapshot() {
+            return new StageMetrics(name, count.sum(), dropped.sum(), nanos.sum());
+        }
+    }
+}
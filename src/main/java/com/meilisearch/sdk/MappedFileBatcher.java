@@ -0,0 +1,151 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.request.HttpBody;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Splits an NDJSON or CSV file into request bodies at line boundaries
+ *
+ * <p>The file is memory-mapped one batch at a time and every body is a slice of the mapping, sent
+ * without being copied to the heap. A batch ends at the last line break within {@code batchBytes}
+ * that is not inside a quoted CSV field; a record longer than that makes a batch of its own. Each
+ * CSV batch starts with the header line of the file.
+ */
+class MappedFileBatcher implements Closeable {
+    private final FileChannel channel;
+    private final String contentType;
+    private final int batchBytes;
+    private final long size;
+    private final ByteBuffer header;
+    private long position;
+
+    /**
+     * @param path NDJSON or CSV file
+     * @param contentType {@link HttpBody#NDJSON} or {@link HttpBody#CSV}
+     * @param batchBytes maximum size of the batches in bytes, but for lines longer than that
+     * @throws IOException if the file cannot be opened
+     */
+    MappedFileBatcher(Path path, String contentType, int batchBytes) throws IOException {
+        if (!HttpBody.NDJSON.equals(contentType) && !HttpBody.CSV.equals(contentType)) {
+            throw new IllegalArgumentException(
+                    "Only NDJSON and CSV files can be split, not " + contentType);
+        }
+        if (batchBytes <= 0) {
+            throw new IllegalArgumentException("batchBytes must be positive");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.contentType = contentType;
+        this.batchBytes = batchBytes;
+        this.size = channel.size();
+        if (HttpBody.CSV.equals(contentType)) {
+            this.header = line(0);
+            this.position = header.remaining();
+        } else {
+            this.header = null;
+        }
+    }
+
+    /**
+     * @return body of the next batch, or null at the end of the file
+     * @throws IOException if the file cannot be mapped
+     */
+    HttpBody next() throws IOException {
+        while (position < size) {
+            ByteBuffer slice = nextSlice(batchBytes);
+            position += slice.remaining();
+            if (isBlank(slice)) {
+                continue;
+            }
+            return header == null
+                    ? HttpBody.ofBuffers(contentType, slice)
+                    : HttpBody.ofBuffers(contentType, header, slice);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** Maps the records from the current position up to {@code length} bytes */
+    private ByteBuffer nextSlice(int length) throws IOException {
+        long remaining = size - position;
+        if (remaining <= length) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, remaining);
+        }
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        int end = recordEnd(window, length, false);
+        if (end >= 0) {
+            return slice(window, end + 1);
+        }
+        // a single record longer than a batch
+        return line(length);
+    }
+
+    /** Maps the record at the current position, knowing it is longer than {@code from} bytes */
+    private ByteBuffer line(int from) throws IOException {
+        long remaining = size - position;
+        int searched = from;
+        while (true) {
+            if (searched > Integer.MAX_VALUE / 2) {
+                throw new IOException("Line at byte " + position + " is too long to be mapped");
+            }
+            int length = (int) Math.min(remaining, Math.max(4096, 2L * searched));
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            int end = recordEnd(window, length, true);
+            if (end >= 0) {
+                return slice(window, end + 1);
+            }
+            if (length == remaining) {
+                return window;
+            }
+            searched = length;
+        }
+    }
+
+    /**
+     * Finds a line break ending a record, starting from a record boundary. Line breaks within
+     * quoted CSV fields are part of the field, an escaped quote toggling the state twice.
+     *
+     * @return index of the first or last line break ending a record, -1 if none
+     */
+    private int recordEnd(ByteBuffer window, int length, boolean first) {
+        boolean csv = HttpBody.CSV.equals(contentType);
+        boolean quoted = false;
+        int end = -1;
+        for (int i = 0; i < length; i++) {
+            byte b = window.get(i);
+            if (b == '"' && csv) {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                if (first) {
+                    return i;
+                }
+                end = i;
+            }
+        }
+        return end;
+    }
+
+    private static ByteBuffer slice(ByteBuffer window, int length) {
+        window.limit(length);
+        return window.slice();
+    }
+
+    private static boolean isBlank(ByteBuffer slice) {
+        for (int i = slice.position(); i < slice.limit(); i++) {
+            byte b = slice.get(i);
+            if (b != '\n' && b != '\r' && b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
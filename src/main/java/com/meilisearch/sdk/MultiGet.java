@@ -0,0 +1,127 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.model.DocumentsByIds;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches documents one identifier at a time with a bounded number of requests in flight
+ *
+ * <p>All the fetches share a single deadline: those still running when it expires are cancelled and
+ * the whole call fails, rather than each request having its own timeout.
+ */
+class MultiGet<T> {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /** Fetches one document */
+    interface Fetcher<T> {
+        T fetch(String identifier) throws MeilisearchException;
+    }
+
+    private final Fetcher<T> fetcher;
+    private final int parallelism;
+    private final long timeoutInMs;
+
+    /**
+     * @param fetcher fetches one document
+     * @param parallelism maximum number of documents fetched at the same time
+     * @param timeoutInMs number of milliseconds allowed for all the fetches
+     */
+    MultiGet(Fetcher<T> fetcher, int parallelism, long timeoutInMs) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.fetcher = fetcher;
+        this.parallelism = parallelism;
+        this.timeoutInMs = timeoutInMs;
+    }
+
+    /**
+     * @param identifiers identifiers of the documents, fetched once each
+     * @return one document per identifier, in their order and null when not found, and the
+     *     identifiers not found
+     * @throws MeilisearchTimeoutException if the fetches did not complete in time
+     * @throws MeilisearchException if a fetch failed for another reason than a missing document
+     */
+    DocumentsByIds<T> run(Collection<String> identifiers) throws MeilisearchException {
+        List<String> ids = new ArrayList<String>(new LinkedHashSet<String>(identifiers));
+        List<T> results = new ArrayList<T>(identifiers.size());
+        List<String> missing = new ArrayList<String>();
+        if (ids.isEmpty()) {
+            return new DocumentsByIds<T>(results, missing);
+        }
+        List<Callable<T>> fetches = new ArrayList<Callable<T>>(ids.size());
+        for (String id : ids) {
+            fetches.add(() -> fetch(id));
+        }
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.min(parallelism, ids.size()),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "meilisearch-multi-get-" + THREADS.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            List<Future<T>> futures =
+                    executor.invokeAll(fetches, timeoutInMs, TimeUnit.MILLISECONDS);
+            Map<String, T> documents = new HashMap<String, T>(2 * ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                Future<T> future = futures.get(i);
+                if (future.isCancelled()) {
+                    throw new MeilisearchTimeoutException(
+                            "Documents not fetched within " + timeoutInMs + " ms");
+                }
+                T document = future.get();
+                if (document == null) {
+                    missing.add(ids.get(i));
+                }
+                documents.put(ids.get(i), document);
+            }
+            for (String identifier : identifiers) {
+                results.add(documents.get(identifier));
+            }
+            return new DocumentsByIds<T>(results, missing);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MeilisearchException) {
+                throw (MeilisearchException) cause;
+            }
+            throw new MeilisearchException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** @return the document, or null if it does not exist */
+    private T fetch(String identifier) throws MeilisearchException {
+        try {
+            return fetcher.fetch(identifier);
+        } catch (MeilisearchApiException e) {
+            if ("document_not_found".equals(e.getCode())) {
+                return null;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records field changes by primary key and sends only those fields as partial updates
+ *
+ * <p>Each document is sent as its primary key and the fields set for it, the last value of a field
+ * winning, so that Meilisearch keeps the other fields unchanged. Values are encoded when they are
+ * set. A PartialUpdate is not thread-safe and can be reused once sent.
+ */
+public class PartialUpdate {
+    private final Documents documents;
+    private final QueueThrottle.TasksLookup tasks;
+    private final String uid;
+    private final String primaryKey;
+    private final JsonHandler jsonHandler;
+
+    private Map<String, Map<String, byte[]>> changes =
+            new LinkedHashMap<String, Map<String, byte[]>>();
+
+    PartialUpdate(
+            Documents documents,
+            QueueThrottle.TasksLookup tasks,
+            String uid,
+            String primaryKey,
+            JsonHandler jsonHandler) {
+        this.documents = documents;
+        this.tasks = tasks;
+        this.uid = uid;
+        this.primaryKey = primaryKey;
+        this.jsonHandler = jsonHandler;
+    }
+
+    /**
+     * Sets a field of a document to a string
+     *
+     * @param identifier Identifier of the document
+     * @param field name of the field
+     * @param value new value, or null to clear it
+     * @return this PartialUpdate
+     */
+    public PartialUpdate set(String identifier, String field, String value) {
+        return put(identifier, field, new JsonByteWriter(16).value(value).toByteArray());
+    }
+
+    /**
+     * Sets a field of a document to an integer
+     *
+     * @param identifier Identifier of the document
+     * @param field name of the field
+     * @param value new value
+     * @return this PartialUpdate
+     */
+    public PartialUpdate set(String identifier, String field, long value) {
+        return put(identifier, field, Long.toString(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sets a field of a document to a boolean
+     *
+     * @param identifier Identifier of the document
+     * @param field name of the field
+     * @param value new value
+     * @return this PartialUpdate
+     */
+    public PartialUpdate set(String identifier, String field, boolean value) {
+        return put(identifier, field, new JsonByteWriter(8).value(value).toByteArray());
+    }
+
+    /**
+     * Sets a field of a document to any value, encoded with the JsonHandler of the configuration
+     *
+     * @param identifier Identifier of the document
+     * @param field name of the field
+     * @param value new value
+     * @return this PartialUpdate
+     * @throws MeilisearchException if the value cannot be encoded
+     */
+    public PartialUpdate set(String identifier, String field, Object value)
+            throws MeilisearchException {
+        // the JsonHandlers return strings as they are, not as JSON strings
+        if (value == null || value instanceof String) {
+            return set(identifier, field, (String) value);
+        }
+        return put(identifier, field, jsonHandler.encode(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @return number of documents with changes waiting to be sent */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Sends the changes in batches of at most 1000 documents
+     *
+     * @return TaskInfo of every batch
+     * @throws MeilisearchException if an error occurs
+     */
+    public TaskInfo[] send() throws MeilisearchException {
+        return send(new BatchOptions());
+    }
+
+    /**
+     * Sends the changes in batches and forgets them
+     *
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes}, {@code
+     *     payloadSizeLimit}, {@code maxInFlight}, {@code queueCapacity} and {@code maxQueuedTasks}
+     *     are used
+     * @return TaskInfo of every batch
+     * @throws MeilisearchException if an error occurs, the changes are then kept
+     */
+    public TaskInfo[] send(BatchOptions options) throws MeilisearchException {
+        BatchUploader.Sender sender =
+                batch -> documents.updateDocuments(uid, HttpBody.json(batch), primaryKey);
+        if (options.getMaxQueuedTasks() > 0) {
+            sender = new QueueThrottle(tasks, uid, options).sender(sender);
+        }
+        TaskInfo[] tasks =
+                new BatchUploader(sender, options)
+                        .upload(new DocumentBatcher(new ChangedFields(), options));
+        changes = new LinkedHashMap<String, Map<String, byte[]>>();
+        return tasks;
+    }
+
+    private PartialUpdate put(String identifier, String field, byte[] value) {
+        if (identifier == null) {
+            throw new IllegalArgumentException("identifier must not be null");
+        }
+        if (field.equals(primaryKey)) {
+            throw new IllegalArgumentException("The primary key " + primaryKey + " cannot be set");
+        }
+        Map<String, byte[]> fields = changes.get(identifier);
+        if (fields == null) {
+            fields = new LinkedHashMap<String, byte[]>();
+            changes.put(identifier, fields);
+        }
+        fields.put(field, value);
+        return this;
+    }
+
+    /** Encodes each changed document as its primary key and its changed fields */
+    private final class ChangedFields implements DocumentBatcher.DocumentSource {
+        private final Iterator<Map.Entry<String, Map<String, byte[]>>> entries =
+                changes.entrySet().iterator();
+        private final JsonByteWriter next = new JsonByteWriter(256);
+        private boolean hasNext;
+
+        @Override
+        public int peekSize() {
+            if (!hasNext && entries.hasNext()) {
+                Map.Entry<String, Map<String, byte[]>> entry = entries.next();
+                next.reset();
+                next.beginObject().name(primaryKey).value(entry.getKey());
+                for (Map.Entry<String, byte[]> field : entry.getValue().entrySet()) {
+                    byte[] value = field.getValue();
+                    next.name(field.getKey()).rawValue(value, 0, value.length);
+                }
+                next.endObject();
+                hasNext = true;
+            }
+            return hasNext ? next.size() : -1;
+        }
+
+        @Override
+        public void next(JsonByteWriter writer) {
+            writer.rawValue(next);
+            hasNext = false;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import com.meilisearch.sdk.json.JsonScanner;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks the primary key of each document before it is added to a batch
+ *
+ * <p>Meilisearch fails the whole task of a batch holding a document without a valid identifier. The
+ * top-level members of each encoded document are scanned, without decoding it, and the documents
+ * with a missing or invalid identifier are given to the {@link DeadLetterSink} instead. When adding
+ * or replacing, of the documents of a batch sharing an identifier only the last one is sent, as
+ * Meilisearch would keep it, and the earlier ones are given to the sink. Updates sharing an
+ * identifier are all sent, Meilisearch merging their fields in order.
+ */
+class PrimaryKeyPreflight {
+    /** Returned by {@link #accept} for a document given to the sink */
+    static final int REJECTED = -2;
+    /** Returned by {@link #accept} for a document with an identifier new to the batch */
+    static final int NEW_ID = -1;
+
+    private static final int MAX_ID_LENGTH = 511;
+
+    private final String primaryKey;
+    private final byte[] key;
+    private final DeadLetterSink sink;
+    private final boolean replace;
+    private final Map<String, Integer> ids = new HashMap<String, Integer>();
+
+    /**
+     * @param primaryKey PrimaryKey of the documents
+     * @param sink receives the documents left out
+     * @param replace whether the documents replace the stored ones, an earlier document of the
+     *     batch with the same identifier is then left out
+     */
+    PrimaryKeyPreflight(String primaryKey, DeadLetterSink sink, boolean replace) {
+        this.primaryKey = primaryKey;
+        this.key = primaryKey.getBytes(StandardCharsets.UTF_8);
+        this.sink = sink;
+        this.replace = replace;
+    }
+
+    /** Forgets the identifiers of the previous batch */
+    void startBatch() {
+        ids.clear();
+    }
+
+    /**
+     * @param document encoded document
+     * @param position position the document would have in the batch
+     * @return {@link #REJECTED} if the document was given to the sink, {@link #NEW_ID} if its
+     *     identifier is new to the batch or if the documents do not replace each other, else the
+     *     position of the earlier document of the batch with the same identifier, which the
+     *     document replaces
+     * @throws MeilisearchException if the document is not a JSON object or the sink fails
+     */
+    int accept(JsonByteWriter document, int position) throws MeilisearchException {
+        CharSequence json = document.asAscii();
+        String id = null;
+        DeadLetterSink.Reason reason = DeadLetterSink.Reason.MISSING_ID;
+        int value = findId(json);
+        if (value != -1 && !JsonScanner.isNull(json, value)) {
+            id = readId(json, value);
+            reason = id == null ? DeadLetterSink.Reason.INVALID_ID : null;
+        }
+        if (reason != null) {
+            sink.reject(document.toByteArray(), reason);
+            return REJECTED;
+        }
+        if (!replace) {
+            return NEW_ID;
+        }
+        Integer earlier = ids.put(id, position);
+        return earlier == null ? NEW_ID : earlier;
+    }
+
+    /**
+     * Gives to the sink a document replaced by a later one of the same batch
+     *
+     * @param document UTF-8 encoded JSON document
+     * @throws MeilisearchException if the sink fails
+     */
+    void rejectDuplicate(byte[] document) throws MeilisearchException {
+        sink.reject(document, DeadLetterSink.Reason.DUPLICATE_ID);
+    }
+
+    /** @return start of the primary key value, or -1 if the document has none */
+    private int findId(CharSequence json) throws MeilisearchException {
+        int pos = JsonScanner.firstElement(json, 0, '{', '}');
+        while (pos != -1) {
+            int end = JsonScanner.skipString(json, pos);
+            int value = JsonScanner.skipColon(json, end);
+            if (isPrimaryKey(json, pos, end)) {
+                return value;
+            }
+            pos = JsonScanner.nextElement(json, JsonScanner.skipValue(json, value), '}');
+        }
+        return -1;
+    }
+
+    /**
+     * @return the identifier, the same for 12 and "12", or null if the value is neither an integer
+     *     nor a valid identifier string
+     */
+    private String readId(CharSequence json, int value) throws MeilisearchException {
+        if (json.charAt(value) == '"') {
+            String id = JsonScanner.readString(json, value);
+            return id.isEmpty() || id.length() > MAX_ID_LENGTH || !isIdString(id) ? null : id;
+        }
+        String id = json.subSequence(value, JsonScanner.skipValue(json, value)).toString();
+        return isInteger(id) ? id : null;
+    }
+
+    /** Compares the raw bytes of a member name, unescaping it only if needed */
+    private boolean isPrimaryKey(CharSequence json, int start, int end)
+            throws MeilisearchException {
+        int length = end - start - 2;
+        for (int i = 0; i < length; i++) {
+            if (json.charAt(start + 1 + i) == '\\') {
+                return JsonScanner.readString(json, start).equals(primaryKey);
+            }
+        }
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (json.charAt(start + 1 + i) != (key[i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdString(String id) {
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (!(c >= 'a' && c <= 'z'
+                    || c >= 'A' && c <= 'Z'
+                    || c >= '0' && c <= '9'
+                    || c == '-'
+                    || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInteger(String id) {
+        int start = id.startsWith("-") ? 1 : 0;
+        if (id.length() == start) {
+            return false;
+        }
+        for (int i = start; i < id.length(); i++) {
+            if (id.charAt(i) < '0' || id.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
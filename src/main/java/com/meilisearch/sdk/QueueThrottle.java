@@ -0,0 +1,107 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds back batches while the task queue of the index is too long
+ *
+ * <p>The enqueued and processing tasks of the index are listed, at most {@code maxQueuedTasks + 1}
+ * of them. Above {@code maxQueuedTasks}, sending pauses until no more than half of them are left,
+ * polling with a growing interval, so that the ingestion follows the rate at which the server
+ * processes the tasks instead of filling its queue.
+ *
+ * <p>Each batch let through adds one to the last count, which can only overestimate the queue as
+ * the server processes tasks. The tasks are listed again only once that estimate goes above {@code
+ * maxQueuedTasks} or the count is older than one second, so that concurrent senders do not wait in
+ * line for a listing before every batch.
+ */
+class QueueThrottle {
+    private static final long MIN_POLL_MS = 100;
+    private static final long MAX_POLL_MS = 2000;
+    private static final long COUNT_TTL_NS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Lists tasks, {@link TasksHandler#getTasks(TasksQuery)} */
+    interface TasksLookup {
+        TasksResults getTasks(TasksQuery query) throws MeilisearchException;
+    }
+
+    private final TasksLookup tasks;
+    private final String indexUid;
+    private final int maxQueuedTasks;
+
+    // guarded by this
+    private int pauses;
+    /** Last count of queued tasks plus the batches let through since, -1 before the first count */
+    private int queued = -1;
+
+    private long countedAt;
+
+    /**
+     * @param tasks lists the tasks of the server
+     * @param indexUid Unique identifier of the index receiving the batches
+     * @param options batch options, {@code maxQueuedTasks} is used
+     */
+    QueueThrottle(TasksLookup tasks, String indexUid, BatchOptions options) {
+        if (options.getMaxQueuedTasks() <= 0) {
+            throw new IllegalArgumentException("maxQueuedTasks must be positive");
+        }
+        this.tasks = tasks;
+        this.indexUid = indexUid;
+        this.maxQueuedTasks = options.getMaxQueuedTasks();
+    }
+
+    /** @return sender waiting for the queue of the index to drain before each batch */
+    BatchUploader.Sender sender(BatchUploader.Sender sender) {
+        return batch -> {
+            await();
+            return sender.send(batch);
+        };
+    }
+
+    /**
+     * Waits while more than {@code maxQueuedTasks} tasks of the index are enqueued or processing
+     *
+     * @throws MeilisearchException if the tasks cannot be listed
+     */
+    synchronized void await() throws MeilisearchException {
+        if (queued < 0 || queued > maxQueuedTasks || System.nanoTime() - countedAt > COUNT_TTL_NS) {
+            count();
+        }
+        if (queued > maxQueuedTasks) {
+            pauses++;
+            long interval = MIN_POLL_MS;
+            do {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MeilisearchException(e);
+                }
+                interval = Math.min(MAX_POLL_MS, interval * 2);
+                count();
+            } while (queued > maxQueuedTasks / 2);
+        }
+        queued++;
+    }
+
+    /** @return number of times the sending paused */
+    synchronized int getPauses() {
+        return pauses;
+    }
+
+    /** Counts the enqueued or processing tasks of the index, up to maxQueuedTasks + 1 */
+    private void count() throws MeilisearchException {
+        TasksQuery query =
+                new TasksQuery()
+                        .setStatus(new String[] {TasksHandler.ENQUEUED, TasksHandler.PROCESSING})
+                        .setIndexUid(new String[] {indexUid})
+                        .setLimit(maxQueuedTasks + 1);
+        TasksResults results = tasks.getTasks(query);
+        queued = results.getResults() == null ? 0 : results.getResults().length;
+        countedAt = System.nanoTime();
+    }
+}
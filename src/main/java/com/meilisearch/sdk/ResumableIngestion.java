@@ -0,0 +1,248 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonDocumentStream;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sends the documents of a file in batches, keeping a checkpoint file to resume after a crash
+ *
+ * <p>The checkpoint holds the offset in the file up to which every batch is confirmed, meaning its
+ * task succeeded, and the batches accepted since, each with its offsets and its task uid. It is
+ * rewritten after each accepted batch. On start, the accepted batches are checked with the tasks
+ * API: succeeded tasks are confirmed, enqueued or processing tasks are kept, and the sending
+ * resumes from the first batch whose task failed, was canceled or is unknown.
+ *
+ * <p>Checkpoint format, one record per line:
+ *
+ * <pre>
+ * confirmed &lt;offset&gt; &lt;batches&gt; &lt;array|ndjson&gt;
+ * batch &lt;number&gt; &lt;start offset&gt; &lt;end offset&gt; &lt;task uid&gt;
+ * </pre>
+ */
+class ResumableIngestion {
+    private final BatchUploader.Sender sender;
+    private final TasksHandler.TaskLookup tasks;
+    private final Path checkpoint;
+    private final BatchOptions options;
+
+    private long confirmedOffset;
+    private int confirmedBatches;
+    private boolean array;
+    private final Deque<Batch> accepted = new ArrayDeque<Batch>();
+
+    /**
+     * @param sender sends one batch
+     * @param tasks fetches the tasks of the batches
+     * @param checkpoint checkpoint file, created if it does not exist
+     * @param options batch options, {@code batchSize}, {@code maxBatchBytes} and {@code
+     *     payloadSizeLimit} are used
+     */
+    ResumableIngestion(
+            BatchUploader.Sender sender,
+            TasksHandler.TaskLookup tasks,
+            Path checkpoint,
+            BatchOptions options) {
+        this.sender = sender;
+        this.tasks = tasks;
+        this.checkpoint = checkpoint;
+        this.options = options;
+    }
+
+    /**
+     * Sends the documents of a file not confirmed by the checkpoint yet
+     *
+     * @param documents JSON array of documents or NDJSON file, unchanged since the checkpoint was
+     *     created
+     * @return TaskInfo of the batches sent by this call
+     * @throws MeilisearchException if an error occurs, the checkpoint then allows to resume
+     */
+    TaskInfo[] run(Path documents) throws MeilisearchException {
+        try {
+            load();
+            long offset = verify();
+            save();
+            List<TaskInfo> sent = new ArrayList<TaskInfo>();
+            int number = confirmedBatches + accepted.size();
+            try (FileChannel channel = FileChannel.open(documents, StandardOpenOption.READ)) {
+                channel.position(offset);
+                InputStream in = Channels.newInputStream(channel);
+                JsonDocumentStream stream =
+                        offset == 0
+                                ? new JsonDocumentStream(in)
+                                : JsonDocumentStream.resume(in, offset, array);
+                DocumentBatcher batcher = new DocumentBatcher(stream, options);
+                for (byte[] batch = batcher.next(); batch != null; batch = batcher.next()) {
+                    TaskInfo task = sender.send(batch);
+                    sent.add(task);
+                    array = stream.isArray();
+                    accepted.add(
+                            new Batch(++number, offset, stream.getOffset(), task.getTaskUid()));
+                    offset = stream.getOffset();
+                    save();
+                    if (confirm()) {
+                        save();
+                    }
+                }
+            }
+            return sent.toArray(new TaskInfo[sent.size()]);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    /**
+     * Checks the accepted batches of a previous run
+     *
+     * @return offset to resume from
+     */
+    private long verify() throws MeilisearchException {
+        List<Batch> kept = new ArrayList<Batch>();
+        for (Batch batch : accepted) {
+            String status = status(batch.taskUid);
+            if (TasksHandler.SUCCEEDED.equals(status) && kept.isEmpty()) {
+                confirmedOffset = batch.end;
+                confirmedBatches = batch.number;
+            } else if (TasksHandler.SUCCEEDED.equals(status)
+                    || TasksHandler.ENQUEUED.equals(status)
+                    || TasksHandler.PROCESSING.equals(status)) {
+                kept.add(batch);
+            } else {
+                // this batch and the following ones are sent again
+                break;
+            }
+        }
+        accepted.clear();
+        accepted.addAll(kept);
+        return accepted.isEmpty() ? confirmedOffset : accepted.getLast().end;
+    }
+
+    /**
+     * Confirms the oldest accepted batches whose task succeeded
+     *
+     * @return true if a batch was confirmed
+     */
+    private boolean confirm() throws MeilisearchException {
+        boolean confirmed = false;
+        while (!accepted.isEmpty()) {
+            Batch oldest = accepted.getFirst();
+            String status = status(oldest.taskUid);
+            if (TasksHandler.ENQUEUED.equals(status) || TasksHandler.PROCESSING.equals(status)) {
+                return confirmed;
+            }
+            if (!TasksHandler.SUCCEEDED.equals(status)) {
+                throw new MeilisearchException(
+                        "Task "
+                                + oldest.taskUid
+                                + " of batch "
+                                + oldest.number
+                                + " is "
+                                + status
+                                + ", run again to resume from this batch");
+            }
+            accepted.removeFirst();
+            confirmedOffset = oldest.end;
+            confirmedBatches = oldest.number;
+            confirmed = true;
+        }
+        return confirmed;
+    }
+
+    /** @return status of a task, or null if it does not exist anymore */
+    private String status(int taskUid) throws MeilisearchException {
+        try {
+            Task task = tasks.getTask(taskUid);
+            return task.getStatus();
+        } catch (MeilisearchApiException e) {
+            if ("task_not_found".equals(e.getCode())) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private void load() throws IOException, MeilisearchException {
+        accepted.clear();
+        if (!Files.exists(checkpoint)) {
+            return;
+        }
+        for (String line : Files.readAllLines(checkpoint, StandardCharsets.UTF_8)) {
+            String[] fields = line.trim().split(" ");
+            if (fields[0].equals("confirmed") && fields.length == 4) {
+                confirmedOffset = Long.parseLong(fields[1]);
+                confirmedBatches = Integer.parseInt(fields[2]);
+                array = fields[3].equals("array");
+            } else if (fields[0].equals("batch") && fields.length == 5) {
+                accepted.add(
+                        new Batch(
+                                Integer.parseInt(fields[1]),
+                                Long.parseLong(fields[2]),
+                                Long.parseLong(fields[3]),
+                                Integer.parseInt(fields[4])));
+            } else if (!fields[0].isEmpty()) {
+                throw new MeilisearchException("Invalid checkpoint line: " + line);
+            }
+        }
+    }
+
+    /** Replaces the checkpoint file atomically */
+    private void save() throws IOException {
+        StringBuilder content = new StringBuilder();
+        content.append("confirmed ")
+                .append(confirmedOffset)
+                .append(' ')
+                .append(confirmedBatches)
+                .append(' ')
+                .append(array ? "array" : "ndjson")
+                .append('\n');
+        for (Batch batch : accepted) {
+            content.append("batch ")
+                    .append(batch.number)
+                    .append(' ')
+                    .append(batch.start)
+                    .append(' ')
+                    .append(batch.end)
+                    .append(' ')
+                    .append(batch.taskUid)
+                    .append('\n');
+        }
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.write(temporary, content.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(
+                temporary,
+                checkpoint,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Batch accepted by Meilisearch */
+    private static final class Batch {
+        private final int number;
+        private final long start;
+        private final long end;
+        private final int taskUid;
+
+        Batch(int number, long start, long end, int taskUid) {
+            this.number = number;
+            this.start = start;
+            this.end = end;
+            this.taskUid = taskUid;
+        }
+    }
+}
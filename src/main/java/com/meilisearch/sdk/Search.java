@@ -1,6 +1,8 @@
 package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.model.LazySearchResult;
 import com.meilisearch.sdk.model.SearchResult;
 
 /**
@@ -31,7 +33,7 @@ public class Search {
     String rawSearch(String uid, String q) throws MeilisearchException {
         String requestQuery = "/indexes/" + uid + "/search";
         SearchRequest sr = new SearchRequest(q);
-        return httpClient.post(requestQuery, sr, String.class);
+        return httpClient.post(requestQuery, HttpBody.json(sr.toJsonBytes()), String.class);
     }
 
     /**
@@ -89,7 +91,7 @@ public class Search {
                         showMatchesPosition,
                         facets,
                         sort);
-        return httpClient.post(requestQuery, sr, String.class);
+        return httpClient.post(requestQuery, HttpBody.json(sr.toJsonBytes()), String.class);
     }
 
     /**
@@ -102,7 +104,24 @@ public class Search {
      */
     String rawSearch(String uid, SearchRequest sr) throws MeilisearchException {
         String requestQuery = "/indexes/" + uid + "/search";
-        return httpClient.post(requestQuery, sr, String.class);
+        return httpClient.post(requestQuery, HttpBody.json(sr.toJsonBytes()), String.class);
+    }
+
+    /**
+     * Performs a search on a given index with a pre-serialized request
+     *
+     * @param uid Index identifier
+     * @param template SearchTemplate holding every parameter but the query and pagination
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return search results, as raw data
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    String rawSearch(String uid, SearchTemplate template, String q, int offset, int limit)
+            throws MeilisearchException {
+        String requestQuery = "/indexes/" + uid + "/search";
+        return httpClient.post(requestQuery, template.toBody(q, offset, limit), String.class);
     }
 
     /**
@@ -186,4 +205,64 @@ public class Search {
     SearchResult search(String uid, SearchRequest sr) throws MeilisearchException {
         return httpClient.jsonHandler.decode(rawSearch(uid, sr), SearchResult.class);
     }
+
+    /**
+     * Performs a search on a given index with a pre-serialized request
+     *
+     * @param uid Index identifier
+     * @param template SearchTemplate holding every parameter but the query and pagination
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return search results
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    SearchResult search(String uid, SearchTemplate template, String q, int offset, int limit)
+            throws MeilisearchException {
+        return httpClient.jsonHandler.decode(
+                rawSearch(uid, template, q, offset, limit), SearchResult.class);
+    }
+
+    /**
+     * Performs a search on a given index with a given query, decoding hits only when accessed
+     *
+     * @param uid Index identifier
+     * @param q Query to search on index
+     * @return search results, with hits decoded on demand
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    LazySearchResult lazySearch(String uid, String q) throws MeilisearchException {
+        return new LazySearchResult(rawSearch(uid, q), httpClient.jsonHandler);
+    }
+
+    /**
+     * Performs a search on a given index with a given query, decoding hits only when accessed
+     *
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @return search results, with hits decoded on demand
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    LazySearchResult lazySearch(String uid, SearchRequest sr) throws MeilisearchException {
+        return new LazySearchResult(rawSearch(uid, sr), httpClient.jsonHandler);
+    }
+
+    /**
+     * Performs a search on a given index with a pre-serialized request, decoding hits only when
+     * accessed
+     *
+     * @param uid Index identifier
+     * @param template SearchTemplate holding every parameter but the query and pagination
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return search results, with hits decoded on demand
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    LazySearchResult lazySearch(
+            String uid, SearchTemplate template, String q, int offset, int limit)
+            throws MeilisearchException {
+        return new LazySearchResult(
+                rawSearch(uid, template, q, offset, limit), httpClient.jsonHandler);
+    }
 }
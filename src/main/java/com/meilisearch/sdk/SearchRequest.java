@@ -1,15 +1,18 @@
 package com.meilisearch.sdk;
 
+import com.meilisearch.sdk.json.JsonByteWriter;
+import java.util.Arrays;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
-import org.json.JSONObject;
 
 /** Search request query string builder */
 @Getter
 @Setter
 @Accessors(chain = true)
 public class SearchRequest {
+    private static final String[] DEFAULT_ATTRIBUTES_TO_RETRIEVE = new String[] {"*"};
+
     private String q;
     private int offset;
     private int limit;
@@ -335,6 +338,95 @@ public class SearchRequest {
         return setQ(q);
     }
 
+    /**
+     * Writes the SearchRequest as a JSON object, leaving out every field that has the Meilisearch
+     * default value: offset 0, limit 20, attributesToRetrieve ["*"], cropLength 10,
+     * showMatchesPosition false and null values
+     *
+     * @param writer JsonByteWriter to write to
+     */
+    public void writeTo(JsonByteWriter writer) {
+        writer.beginObject();
+        writeQueryMembers(writer, this.q, this.offset, this.limit);
+        writeSharedMembers(writer);
+        writer.endObject();
+    }
+
+    /**
+     * Writes the members that vary from one query to the next, leaving out default values
+     *
+     * @param writer JsonByteWriter positioned inside an object
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     */
+    static void writeQueryMembers(JsonByteWriter writer, String q, int offset, int limit) {
+        if (q != null) {
+            writer.name("q").value(q);
+        }
+        if (offset != 0) {
+            writer.name("offset").value(offset);
+        }
+        if (limit != 20) {
+            writer.name("limit").value(limit);
+        }
+    }
+
+    /**
+     * Writes every member but q, offset and limit, leaving out default values
+     *
+     * @param writer JsonByteWriter positioned inside an object
+     */
+    void writeSharedMembers(JsonByteWriter writer) {
+        if (this.attributesToRetrieve != null
+                && !Arrays.equals(this.attributesToRetrieve, DEFAULT_ATTRIBUTES_TO_RETRIEVE)) {
+            writer.name("attributesToRetrieve").value(this.attributesToRetrieve);
+        }
+        if (this.attributesToCrop != null) {
+            writer.name("attributesToCrop").value(this.attributesToCrop);
+        }
+        if (this.cropLength != 10) {
+            writer.name("cropLength").value(this.cropLength);
+        }
+        if (this.cropMarker != null) {
+            writer.name("cropMarker").value(this.cropMarker);
+        }
+        if (this.attributesToHighlight != null) {
+            writer.name("attributesToHighlight").value(this.attributesToHighlight);
+        }
+        if (this.highlightPreTag != null) {
+            writer.name("highlightPreTag").value(this.highlightPreTag);
+        }
+        if (this.highlightPostTag != null) {
+            writer.name("highlightPostTag").value(this.highlightPostTag);
+        }
+        if (this.showMatchesPosition) {
+            writer.name("showMatchesPosition").value(true);
+        }
+        if (this.filter != null) {
+            writer.name("filter").value(this.filter);
+        } else if (this.filterArray != null) {
+            writer.name("filter").value(this.filterArray);
+        }
+        if (this.facets != null) {
+            writer.name("facets").value(this.facets);
+        }
+        if (this.sort != null) {
+            writer.name("sort").value(this.sort);
+        }
+    }
+
+    /**
+     * Method that returns the JSON encoding of the SearchRequest as UTF-8 bytes
+     *
+     * @return JSON bytes of the SearchRequest query
+     */
+    public byte[] toJsonBytes() {
+        JsonByteWriter writer = new JsonByteWriter();
+        writeTo(writer);
+        return writer.toByteArray();
+    }
+
     /**
      * Method that returns the JSON String of the SearchRequest
      *
@@ -342,24 +434,8 @@ public class SearchRequest {
      */
     @Override
     public String toString() {
-        JSONObject jsonObject =
-                new JSONObject()
-                        .put("q", this.q)
-                        .put("offset", this.offset)
-                        .put("limit", this.limit)
-                        .put("attributesToRetrieve", this.attributesToRetrieve)
-                        .put("cropLength", this.cropLength)
-                        .put("cropMarker", this.cropMarker)
-                        .put("highlightPreTag", this.highlightPreTag)
-                        .put("highlightPostTag", this.highlightPostTag)
-                        .put("showMatchesPosition", this.showMatchesPosition)
-                        .put("facets", this.facets)
-                        .put("sort", this.sort)
-                        .putOpt("attributesToCrop", this.attributesToCrop)
-                        .putOpt("attributesToHighlight", this.attributesToHighlight)
-                        .putOpt("filter", this.filter)
-                        .putOpt("filter", this.filterArray);
-
-        return jsonObject.toString();
+        JsonByteWriter writer = new JsonByteWriter();
+        writeTo(writer);
+        return writer.toString();
     }
 }
@@ -0,0 +1,107 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonByteWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Pre-serialized search request
+ *
+ * <p>Every parameter of the SearchRequest but q, offset and limit is encoded once when the template
+ * is created. Each search then only encodes the query and its pagination, and the shared bytes are
+ * sent as they are. Later changes to the SearchRequest are not reflected in the template.
+ */
+public class SearchTemplate {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final byte[] sharedMembers;
+    @Getter private final int offset;
+    @Getter private final int limit;
+
+    /**
+     * Creates a template from the current state of a SearchRequest
+     *
+     * @param request SearchRequest holding the parameters shared by every search
+     */
+    public SearchTemplate(SearchRequest request) {
+        JsonByteWriter writer = new JsonByteWriter();
+        writer.beginObject();
+        request.writeSharedMembers(writer);
+        writer.endObject();
+        byte[] object = writer.toByteArray();
+        this.sharedMembers =
+                object.length > 2 ? Arrays.copyOfRange(object, 1, object.length - 1) : EMPTY;
+        this.offset = request.getOffset();
+        this.limit = request.getLimit();
+    }
+
+    /**
+     * Builds the request body of a search
+     *
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return HttpBody of the search request
+     */
+    HttpBody toBody(String q, int offset, int limit) {
+        JsonByteWriter head = new JsonByteWriter(q == null ? 32 : 32 + 3 * q.length());
+        head.beginObject();
+        SearchRequest.writeQueryMembers(head, q, offset, limit);
+        return new TemplateBody(head, sharedMembers);
+    }
+
+    /**
+     * Returns the JSON encoding of a search built from this template
+     *
+     * @param q Query string
+     * @param offset Number of documents to skip
+     * @param limit Maximum number of documents returned
+     * @return JSON bytes of the search request
+     */
+    public byte[] toJsonBytes(String q, int offset, int limit) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            toBody(q, offset, limit).writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** Body made of the per-query members followed by the shared members */
+    private static class TemplateBody implements HttpBody {
+        private final JsonByteWriter head;
+        private final byte[] sharedMembers;
+        private final boolean separator;
+
+        TemplateBody(JsonByteWriter head, byte[] sharedMembers) {
+            this.head = head;
+            this.sharedMembers = sharedMembers;
+            this.separator = head.size() > 1 && sharedMembers.length > 0;
+        }
+
+        @Override
+        public String getContentType() {
+            return JSON;
+        }
+
+        @Override
+        public long getContentLength() {
+            return head.size() + (separator ? 1 : 0) + sharedMembers.length + 1;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            head.writeTo(out);
+            if (separator) {
+                out.write(',');
+            }
+            out.write(sharedMembers);
+            out.write('}');
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.CancelTasksQuery;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes documents and cancels the writes made pointless by a later full replacement
+ *
+ * <p>The uids of the document tasks enqueued through this object are kept by index. Once every
+ * batch of a full replacement is enqueued, the tasks of the same index enqueued before it are
+ * canceled if they are still enqueued, so that the server only spends time on the latest data.
+ * Tasks already processing are left to finish. Only the tasks of this object are canceled, the
+ * replacement being expected to hold every document they changed.
+ *
+ * <p>The uids are kept until the next replacement of their index. Once a thousand uids of an index
+ * are kept, the enqueued tasks of the index are listed and the uids of the tasks no longer enqueued
+ * are dropped, the threshold then doubling with the remaining ones. A SupersedingWrites is
+ * thread-safe.
+ */
+public class SupersedingWrites {
+
+    /** Cancels tasks, {@link TasksHandler#cancelTasks} */
+    interface Canceler {
+        TaskInfo cancelTasks(CancelTasksQuery query) throws MeilisearchException;
+    }
+
+    private static final int MIN_PRUNE_SIZE = 1000;
+
+    private final Canceler canceler;
+    private final QueueThrottle.TasksLookup tasks;
+
+    // guarded by this
+    private final Map<String, NavigableSet<Integer>> enqueued =
+            new HashMap<String, NavigableSet<Integer>>();
+    private final Map<String, Integer> pruneSizes = new HashMap<String, Integer>();
+
+    SupersedingWrites(Canceler canceler, QueueThrottle.TasksLookup tasks) {
+        this.canceler = canceler;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Updates documents in batches and keeps their tasks, to cancel them if a replacement of the
+     * index is enqueued before they are processed
+     *
+     * @param <T> Type of the documents
+     * @param index Index receiving the documents
+     * @param documents Documents to update
+     * @param options size of the batches and number of batches sent at the same time
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     */
+    public <T> TaskInfo[] updateDocuments(Index index, Iterator<T> documents, BatchOptions options)
+            throws MeilisearchException {
+        TaskInfo[] tasks = index.updateDocuments(documents, options, index.getPrimaryKey());
+        track(index.getUid(), tasks);
+        return tasks;
+    }
+
+    /**
+     * Adds/Replaces every document of the index in batches, then cancels the tasks enqueued through
+     * this object for the same index before the replacement and still enqueued
+     *
+     * @param <T> Type of the documents
+     * @param index Index receiving the documents
+     * @param documents Every document the index should hold
+     * @param options size of the batches and number of batches sent at the same time
+     * @return TaskInfo Meilisearch API response of every batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs, no task is then canceled
+     */
+    public <T> TaskInfo[] replaceDocuments(Index index, Iterator<T> documents, BatchOptions options)
+            throws MeilisearchException {
+        TaskInfo[] tasks = index.addDocuments(documents, options, index.getPrimaryKey());
+        if (tasks.length > 0) {
+            cancelBefore(index.getUid(), firstTaskUid(tasks));
+        }
+        track(index.getUid(), tasks);
+        return tasks;
+    }
+
+    /**
+     * @param indexUid Unique identifier of the index
+     * @return number of tasks of the index that a replacement would cancel
+     */
+    public synchronized int getTracked(String indexUid) {
+        NavigableSet<Integer> tasks = enqueued.get(indexUid);
+        return tasks == null ? 0 : tasks.size();
+    }
+
+    private void track(String indexUid, TaskInfo[] tasks) {
+        int from;
+        int limit;
+        synchronized (this) {
+            NavigableSet<Integer> uids = enqueued.get(indexUid);
+            if (uids == null) {
+                uids = new TreeSet<Integer>();
+                enqueued.put(indexUid, uids);
+            }
+            for (TaskInfo task : tasks) {
+                uids.add(task.getTaskUid());
+            }
+            Integer pruneSize = pruneSizes.get(indexUid);
+            if (uids.size() < (pruneSize == null ? MIN_PRUNE_SIZE : pruneSize)) {
+                return;
+            }
+            from = uids.last();
+            limit = uids.size();
+        }
+        prune(indexUid, from, limit);
+    }
+
+    /** Drops the uids up to {@code from} of the tasks of the index that are no longer enqueued */
+    private void prune(String indexUid, int from, int limit) {
+        TasksResults results;
+        try {
+            results =
+                    tasks.getTasks(
+                            new TasksQuery()
+                                    .setStatus(new String[] {TasksHandler.ENQUEUED})
+                                    .setIndexUid(new String[] {indexUid})
+                                    .setFrom(from)
+                                    .setLimit(limit));
+        } catch (MeilisearchException e) {
+            // the uids are kept, a later replacement of the index drops them anyway
+            return;
+        }
+        Set<Integer> stillEnqueued = new HashSet<Integer>();
+        int oldest = from;
+        if (results.getResults() != null) {
+            for (Task task : results.getResults()) {
+                stillEnqueued.add(task.getUid());
+                oldest = Math.min(oldest, task.getUid());
+            }
+        }
+        // a full page may leave out older enqueued tasks
+        boolean complete = results.getResults() == null || results.getResults().length < limit;
+        synchronized (this) {
+            NavigableSet<Integer> uids = enqueued.get(indexUid);
+            if (uids == null) {
+                return;
+            }
+            Iterator<Integer> it =
+                    (complete ? uids.headSet(from, true) : uids.subSet(oldest, true, from, true))
+                            .iterator();
+            while (it.hasNext()) {
+                if (!stillEnqueued.contains(it.next())) {
+                    it.remove();
+                }
+            }
+            pruneSizes.put(indexUid, Math.max(MIN_PRUNE_SIZE, 2 * uids.size()));
+        }
+    }
+
+    private void cancelBefore(String indexUid, int taskUid) throws MeilisearchException {
+        int[] superseded;
+        synchronized (this) {
+            NavigableSet<Integer> uids = enqueued.get(indexUid);
+            if (uids == null) {
+                return;
+            }
+            NavigableSet<Integer> before = uids.headSet(taskUid, false);
+            if (before.isEmpty()) {
+                return;
+            }
+            superseded = new int[before.size()];
+            int i = 0;
+            for (Integer uid : before) {
+                superseded[i++] = uid;
+            }
+            before.clear();
+            pruneSizes.remove(indexUid);
+        }
+        canceler.cancelTasks(
+                new CancelTasksQuery()
+                        .setUid(superseded)
+                        .setStatus(new String[] {TasksHandler.ENQUEUED})
+                        .setIndexUid(new String[] {indexUid}));
+    }
+
+    private static int firstTaskUid(TaskInfo[] tasks) {
+        int first = tasks[0].getTaskUid();
+        for (TaskInfo task : tasks) {
+            first = Math.min(first, task.getTaskUid());
+        }
+        return first;
+    }
+}
@@ -3,10 +3,14 @@ package com.meilisearch.sdk;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
 import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.model.CancelTasksQuery;
 import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TasksQuery;
 import com.meilisearch.sdk.model.TasksResults;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class covering the Meilisearch Task API
@@ -15,8 +19,17 @@ import java.util.Date;
  */
 public class TasksHandler {
     private final HttpClient httpClient;
+    public static final String ENQUEUED = "enqueued";
+    public static final String PROCESSING = "processing";
     public static final String SUCCEEDED = "succeeded";
     public static final String FAILED = "failed";
+    public static final String CANCELED = "canceled";
+    private static final long POLL_INTERVAL_MS = 100;
+
+    /** Fetches a task, {@link #getTask} */
+    interface TaskLookup {
+        Task getTask(int taskUid) throws MeilisearchException;
+    }
 
     /**
      * Creates and sets up an instance of Task to simplify MeiliSearch API calls to manage tasks
@@ -100,6 +113,18 @@ public class TasksHandler {
         return result;
     }
 
+    /**
+     * Cancels the enqueued or processing tasks matching the query
+     *
+     * @param param accepted by the cancel tasks route, at least one filter is required
+     * @return TaskInfo of the cancelation task
+     * @throws MeilisearchException if client request causes an error
+     */
+    TaskInfo cancelTasks(CancelTasksQuery param) throws MeilisearchException {
+        URLBuilder urlb = tasksPath().addSubroute("cancel").addQuery(param.toQuery());
+        return httpClient.post(urlb.getURL(), null, TaskInfo.class);
+    }
+
     /**
      * Waits for a task to be processed
      *
@@ -139,6 +164,54 @@ public class TasksHandler {
         }
     }
 
+    /**
+     * Waits for every task of a write to succeed, checking them in order
+     *
+     * @param tasks fetches the tasks
+     * @param taskInfos tasks to wait for
+     * @param timeoutInMs number of milliseconds to wait for all the tasks
+     * @param outcome what is left undone when a task does not succeed, ending the error message
+     * @throws MeilisearchTimeoutException if a task is still enqueued or processing once the
+     *     timeout is reached
+     * @throws MeilisearchException if a task failed or was canceled
+     */
+    static void waitForSuccess(
+            TaskLookup tasks, List<TaskInfo> taskInfos, long timeoutInMs, String outcome)
+            throws MeilisearchException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMs);
+        for (TaskInfo taskInfo : taskInfos) {
+            int taskUid = taskInfo.getTaskUid();
+            while (true) {
+                String status = tasks.getTask(taskUid).getStatus();
+                if (SUCCEEDED.equals(status)) {
+                    break;
+                }
+                if (!ENQUEUED.equals(status) && !PROCESSING.equals(status)) {
+                    throw new MeilisearchException(
+                            "Task " + taskUid + " is " + status + ", " + outcome);
+                }
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new MeilisearchTimeoutException(
+                            "Task "
+                                    + taskUid
+                                    + " is still "
+                                    + status
+                                    + " after "
+                                    + timeoutInMs
+                                    + "ms, "
+                                    + outcome);
+                }
+                try {
+                    Thread.sleep(Math.min(POLL_INTERVAL_MS, remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MeilisearchException(e);
+                }
+            }
+        }
+    }
+
     /** Creates an URLBuilder for the constant route tasks */
     private URLBuilder tasksPath() {
         return new URLBuilder("/tasks");
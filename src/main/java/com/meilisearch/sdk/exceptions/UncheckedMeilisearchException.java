@@ -0,0 +1,17 @@
+package com.meilisearch.sdk.exceptions;
+
+/**
+ * Wraps a MeilisearchException thrown where checked exceptions cannot be, such as in an Iterator or
+ * a Stream
+ */
+public class UncheckedMeilisearchException extends RuntimeException {
+
+    public UncheckedMeilisearchException(MeilisearchException cause) {
+        super(cause);
+    }
+
+    @Override
+    public synchronized MeilisearchException getCause() {
+        return (MeilisearchException) super.getCause();
+    }
+}
@@ -4,9 +4,12 @@ import com.meilisearch.sdk.Config;
 import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.http.request.HttpBody;
 import com.meilisearch.sdk.http.request.HttpRequest;
 import com.meilisearch.sdk.http.response.HttpResponse;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
@@ -31,6 +34,18 @@ public class CustomOkHttpClient {
         this.client = new OkHttpClient();
     }
 
+    /** Reads the body of a response while it is received */
+    public interface BodyReader<T> {
+        /**
+         * @param statusCode HTTP status code of the response
+         * @param body body of the response, closed by the caller
+         * @return result of the reading
+         * @throws IOException if the body cannot be read
+         * @throws MeilisearchException if the body cannot be handled
+         */
+        T read(int statusCode, InputStream body) throws IOException, MeilisearchException;
+    }
+
     public <T> HttpResponse<T> execute(HttpRequest request) throws MeilisearchException {
         try {
             Request okRequest = buildRequest(request);
@@ -46,11 +61,66 @@ public class CustomOkHttpClient {
         }
     }
 
+    /**
+     * Executes a request and gives the body of the response to a reader as it is received, without
+     * holding it in memory
+     *
+     * @param request request to execute
+     * @param reader reads the body of the response
+     * @return result of the reader
+     * @throws MeilisearchException if the request fails or the reader throws
+     */
+    public <T> T execute(HttpRequest request, BodyReader<T> reader) throws MeilisearchException {
+        try {
+            Request okRequest = buildRequest(request);
+            try (Response response = client.newCall(okRequest).execute()) {
+                ResponseBody responseBody = response.body();
+                InputStream body =
+                        responseBody == null
+                                ? new ByteArrayInputStream(new byte[0])
+                                : responseBody.byteStream();
+                return reader.read(response.code(), body);
+            }
+        } catch (MalformedURLException e) {
+            throw new MeilisearchException(e);
+        } catch (SocketTimeoutException e) {
+            throw new MeilisearchTimeoutException(e);
+        } catch (IOException e) {
+            throw new MeilisearchCommunicationException(e);
+        }
+    }
+
     private RequestBody getBodyFromRequest(HttpRequest request) {
+        if (request.getBody() != null) return toRequestBody(request.getBody());
         if (request.hasContent()) return RequestBody.create(request.getContentAsBytes(), JSON);
         return EMPTY_REQUEST_BODY;
     }
 
+    private RequestBody toRequestBody(HttpBody body) {
+        MediaType contentType = MediaType.get(body.getContentType());
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return contentType;
+            }
+
+            @Override
+            public long contentLength() {
+                return body.getContentLength();
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return !body.isRepeatable();
+            }
+
+            @Override
+            public void writeTo(okio.BufferedSink sink) throws IOException {
+                body.writeTo(sink.outputStream());
+            }
+        };
+    }
+
     private Request buildRequest(HttpRequest request) throws MalformedURLException {
         URL url = new URL(this.config.getHostUrl() + request.getPath());
         Request.Builder builder = new Request.Builder();
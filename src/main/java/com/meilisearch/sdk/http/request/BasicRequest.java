@@ -12,6 +12,11 @@ public class BasicRequest {
 
     public <T> HttpRequest create(
             HttpMethod method, String path, Map<String, String> headers, T content) {
+        if (content instanceof HttpBody) {
+            HttpRequest request = new HttpRequest(method, path, headers, null);
+            request.setBody((HttpBody) content);
+            return request;
+        }
         try {
             return new HttpRequest(
                     method,
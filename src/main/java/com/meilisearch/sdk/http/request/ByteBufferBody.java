@@ -0,0 +1,58 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/** HttpBody backed by ByteBuffers, such as regions of a memory-mapped file */
+class ByteBufferBody implements HttpBody {
+    private static final int CHUNK = 8192;
+
+    private final ByteBuffer[] parts;
+    private final String contentType;
+    private final long contentLength;
+
+    ByteBufferBody(ByteBuffer[] parts, String contentType) {
+        this.parts = parts;
+        this.contentType = contentType;
+        long length = 0;
+        for (ByteBuffer part : parts) {
+            length += part.remaining();
+        }
+        this.contentLength = length;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] chunk = null;
+        for (ByteBuffer part : parts) {
+            // the buffers are left untouched so that the body can be written again
+            ByteBuffer buffer = part.duplicate();
+            if (buffer.hasArray()) {
+                out.write(
+                        buffer.array(),
+                        buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining());
+                continue;
+            }
+            if (chunk == null) {
+                chunk = new byte[CHUNK];
+            }
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                out.write(chunk, 0, length);
+            }
+        }
+    }
+}
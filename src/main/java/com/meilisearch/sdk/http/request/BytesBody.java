@@ -0,0 +1,34 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** HttpBody backed by a byte array */
+class BytesBody implements HttpBody {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final String contentType;
+
+    BytesBody(byte[] bytes, int offset, int length, String contentType) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, offset, length);
+    }
+}
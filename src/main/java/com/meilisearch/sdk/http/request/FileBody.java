@@ -0,0 +1,41 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** HttpBody streamed from a file */
+class FileBody implements HttpBody {
+    private final Path path;
+    private final String contentType;
+    private long contentLength = -2;
+
+    FileBody(Path path, String contentType) {
+        this.path = path;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getContentLength() {
+        if (contentLength == -2) {
+            try {
+                contentLength = Files.size(path);
+            } catch (IOException e) {
+                // reported by writeTo
+                contentLength = -1;
+            }
+        }
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        Files.copy(path, out);
+    }
+}
@@ -0,0 +1,107 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Request body written directly to the connection
+ *
+ * <p>Passing an HttpBody as the body of an HttpClient call bypasses the JsonHandler: the bytes are
+ * sent as they are, with the given content type.
+ */
+public interface HttpBody {
+    String JSON = "application/json; charset=utf-8";
+    String NDJSON = "application/x-ndjson";
+    String CSV = "text/csv";
+
+    /** @return media type of the body */
+    String getContentType();
+
+    /** @return length of the body in bytes, or -1 if it is not known in advance */
+    long getContentLength();
+
+    /**
+     * Writes the body
+     *
+     * @param out stream of the request, must not be closed
+     * @throws IOException if the body cannot be written
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /** @return true if {@link #writeTo} can be called more than once, e.g. on retries */
+    default boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * Creates a body from bytes
+     *
+     * @param bytes content of the body, not copied
+     * @param contentType media type of the body
+     * @return HttpBody
+     */
+    static HttpBody of(byte[] bytes, String contentType) {
+        return new BytesBody(bytes, 0, bytes.length, contentType);
+    }
+
+    /**
+     * Creates a JSON body from UTF-8 encoded bytes
+     *
+     * @param bytes JSON content of the body, not copied
+     * @return HttpBody
+     */
+    static HttpBody json(byte[] bytes) {
+        return of(bytes, JSON);
+    }
+
+    /**
+     * Creates a body from a String, encoded as UTF-8
+     *
+     * @param content content of the body
+     * @param contentType media type of the body
+     * @return HttpBody
+     */
+    static HttpBody of(String content, String contentType) {
+        return of(content.getBytes(StandardCharsets.UTF_8), contentType);
+    }
+
+    /**
+     * Creates a body from the remaining bytes of buffers, sent one after the other. The buffers are
+     * neither copied nor modified, a direct or memory-mapped buffer is streamed through a small
+     * chunk instead of being loaded on the heap.
+     *
+     * @param contentType media type of the body
+     * @param content buffers holding the content of the body
+     * @return HttpBody
+     */
+    static HttpBody ofBuffers(String contentType, ByteBuffer... content) {
+        return new ByteBufferBody(content, contentType);
+    }
+
+    /**
+     * Creates a body streamed from a file, which is read each time the body is written
+     *
+     * @param path file holding the content of the body
+     * @param contentType media type of the body
+     * @return HttpBody
+     */
+    static HttpBody of(Path path, String contentType) {
+        return new FileBody(path, contentType);
+    }
+
+    /**
+     * Creates a body streamed from a Reader and encoded as UTF-8 on the fly. The body can only be
+     * written once and the Reader is not closed.
+     *
+     * @param reader source of the content of the body
+     * @param contentType media type of the body
+     * @return HttpBody
+     */
+    static HttpBody of(Reader reader, String contentType) {
+        return new ReaderBody(reader, contentType);
+    }
+}
@@ -1,5 +1,8 @@
 package com.meilisearch.sdk.http.request;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import lombok.Getter;
@@ -12,6 +15,7 @@ public class HttpRequest {
     @Setter private String path;
     @Getter private Map<String, String> headers;
     private String content;
+    private HttpBody body;
 
     public HttpRequest() {}
 
@@ -24,10 +28,30 @@ public class HttpRequest {
     }
 
     public boolean hasContent() {
-        return content != null;
+        return content != null || body != null;
     }
 
+    /**
+     * @return the content encoded as UTF-8, or else the body written out, or null if there is
+     *     neither
+     * @throws UncheckedIOException if the body cannot be written
+     */
     public byte[] getContentAsBytes() {
-        return content.getBytes(StandardCharsets.UTF_8);
+        if (content != null) {
+            return content.getBytes(StandardCharsets.UTF_8);
+        }
+        if (body == null) {
+            return null;
+        }
+        long length = body.getContentLength();
+        ByteArrayOutputStream out =
+                new ByteArrayOutputStream(
+                        length < 0 || length > Integer.MAX_VALUE ? 32 : (int) length);
+        try {
+            body.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
     }
 }
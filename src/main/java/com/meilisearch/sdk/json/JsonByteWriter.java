@@ -0,0 +1,333 @@
+package com.meilisearch.sdk.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer encoding straight to UTF-8 bytes
+ *
+ * <p>Used on hot paths where building an object tree or an intermediate String for each request is
+ * not worth it. The writer takes care of separators; callers only describe the structure.
+ */
+public class JsonByteWriter {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int count;
+    private boolean[] hasElements = new boolean[8];
+    private int depth;
+    private boolean afterName;
+
+    public JsonByteWriter() {
+        this(256);
+    }
+
+    /** @param initialCapacity initial size of the underlying buffer in bytes */
+    public JsonByteWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public JsonByteWriter beginObject() {
+        beforeValue();
+        write('{');
+        push();
+        return this;
+    }
+
+    public JsonByteWriter endObject() {
+        depth--;
+        write('}');
+        return this;
+    }
+
+    public JsonByteWriter beginArray() {
+        beforeValue();
+        write('[');
+        push();
+        return this;
+    }
+
+    public JsonByteWriter endArray() {
+        depth--;
+        write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next object member
+     *
+     * @param name member name
+     * @return this writer
+     */
+    public JsonByteWriter name(String name) {
+        beforeValue();
+        writeString(name);
+        write(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonByteWriter value(String value) {
+        beforeValue();
+        if (value == null) {
+            write(NULL, 0, NULL.length);
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonByteWriter value(long value) {
+        beforeValue();
+        writeAscii(Long.toString(value));
+        return this;
+    }
+
+    public JsonByteWriter value(boolean value) {
+        beforeValue();
+        byte[] literal = value ? TRUE : FALSE;
+        write(literal, 0, literal.length);
+        return this;
+    }
+
+    public JsonByteWriter value(String[] values) {
+        if (values == null) {
+            return value((String) null);
+        }
+        beginArray();
+        for (String value : values) {
+            value(value);
+        }
+        return endArray();
+    }
+
+    public JsonByteWriter value(String[][] values) {
+        if (values == null) {
+            return value((String) null);
+        }
+        beginArray();
+        for (String[] value : values) {
+            value(value);
+        }
+        return endArray();
+    }
+
+    /**
+     * Writes an already encoded JSON value
+     *
+     * @param json UTF-8 encoded JSON value
+     * @param offset start of the value in {@code json}
+     * @param length length of the value in bytes
+     * @return this writer
+     */
+    public JsonByteWriter rawValue(byte[] json, int offset, int length) {
+        beforeValue();
+        write(json, offset, length);
+        return this;
+    }
+
+    /**
+     * Writes the value held by another writer
+     *
+     * @param value writer holding a single encoded JSON value
+     * @return this writer
+     */
+    public JsonByteWriter rawValue(JsonByteWriter value) {
+        return rawValue(value.buffer, 0, value.count);
+    }
+
+    /** @return number of bytes written so far */
+    public int size() {
+        return count;
+    }
+
+    /** Discards everything written so far so that the buffer can be reused */
+    public void reset() {
+        count = 0;
+        depth = 0;
+        afterName = false;
+    }
+
+    /** @return a copy of the bytes written so far */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * @return view of the bytes written so far, one char per byte, for scanning the JSON structure
+     *     with {@link JsonScanner} without copying; characters outside ASCII are not decoded
+     */
+    public CharSequence asAscii() {
+        return new AsciiView(0, count);
+    }
+
+    /**
+     * Copies the bytes written so far to a stream
+     *
+     * @param out stream to write to
+     * @throws IOException if the stream cannot be written to
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, count);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasElements[depth]) {
+                write(',');
+            }
+            hasElements[depth] = true;
+        }
+    }
+
+    private void push() {
+        depth++;
+        if (depth == hasElements.length) {
+            hasElements = Arrays.copyOf(hasElements, depth * 2);
+        }
+        hasElements[depth] = false;
+    }
+
+    private void writeString(String value) {
+        int length = value.length();
+        // at most 3 bytes per char, escapes reserve their own room
+        ensureCapacity(3 * length + 2);
+        byte[] buffer = this.buffer;
+        int count = this.count;
+        buffer[count++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c < 0x20 || c == '"' || c == '\\') {
+                    this.count = count;
+                    writeEscaped(c, 3 * (length - i - 1) + 1);
+                    buffer = this.buffer;
+                    count = this.count;
+                } else {
+                    buffer[count++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xc0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[count++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xe0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[count++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        buffer[count++] = '"';
+        this.count = count;
+    }
+
+    private void writeEscaped(char c, int remaining) {
+        ensureCapacity(6 + remaining);
+        buffer[count++] = '\\';
+        switch (c) {
+            case '"':
+            case '\\':
+                buffer[count++] = (byte) c;
+                break;
+            case '\n':
+                buffer[count++] = 'n';
+                break;
+            case '\r':
+                buffer[count++] = 'r';
+                break;
+            case '\t':
+                buffer[count++] = 't';
+                break;
+            case '\b':
+                buffer[count++] = 'b';
+                break;
+            case '\f':
+                buffer[count++] = 'f';
+                break;
+            default:
+                buffer[count++] = 'u';
+                buffer[count++] = '0';
+                buffer[count++] = '0';
+                buffer[count++] = HEX[c >> 4];
+                buffer[count++] = HEX[c & 0xf];
+        }
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void write(char c) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) c;
+    }
+
+    private void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (count + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + extra));
+        }
+    }
+
+    /** Bytes of the buffer seen as chars */
+    private final class AsciiView implements CharSequence {
+        private final int start;
+        private final int end;
+
+        AsciiView(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer[start + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new AsciiView(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
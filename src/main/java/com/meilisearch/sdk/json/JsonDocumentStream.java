@@ -0,0 +1,455 @@
+package com.meilisearch.sdk.json;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads documents one by one from a JSON array, from NDJSON, or from an array field of an object
+ *
+ * <p>Documents are not parsed: only their bounds are found, and their UTF-8 bytes are copied as
+ * they are. Memory is bounded by the size of the largest document, whatever the size of the input.
+ * The input is not closed.
+ */
+public class JsonDocumentStream {
+    private static final int MIN_READ = 8192;
+
+    private final InputStream in;
+    private byte[] buffer = new byte[4 * MIN_READ];
+    private int position;
+    private int limit;
+    private int documentStart = -1;
+    private long discarded;
+    private long consumed;
+    private boolean endOfInput;
+
+    private boolean started;
+    private boolean array;
+    private boolean finished;
+    private String field;
+
+    /** @param in UTF-8 encoded JSON array of documents or NDJSON */
+    public JsonDocumentStream(InputStream in) {
+        this.in = in;
+    }
+
+    /** @param reader JSON array of documents or NDJSON */
+    public JsonDocumentStream(Reader reader) {
+        this(new Utf8Stream(reader));
+    }
+
+    /**
+     * Continues reading documents where a previous stream over the same content stopped
+     *
+     * @param in UTF-8 encoded content, positioned at {@code offset}
+     * @param offset {@link #getOffset()} of the previous stream
+     * @param array {@link #isArray()} of the previous stream
+     * @return JsonDocumentStream reading the documents following {@code offset}
+     */
+    public static JsonDocumentStream resume(InputStream in, long offset, boolean array) {
+        JsonDocumentStream stream = new JsonDocumentStream(in);
+        stream.started = offset > 0;
+        stream.array = array;
+        stream.discarded = offset;
+        stream.consumed = offset;
+        return stream;
+    }
+
+    /**
+     * Reads the documents of the array held by a field of a JSON object, such as the results of a
+     * page of documents. The other fields are skipped and the content after the array is not read.
+     *
+     * @param in UTF-8 encoded JSON object
+     * @param field name of the field holding the array of documents
+     * @return JsonDocumentStream reading the documents of the field, none if the field is missing
+     */
+    public static JsonDocumentStream ofField(InputStream in, String field) {
+        JsonDocumentStream stream = new JsonDocumentStream(in);
+        stream.field = field;
+        return stream;
+    }
+
+    /** @return position in bytes right after the last document given by {@link #next} */
+    public long getOffset() {
+        return consumed;
+    }
+
+    /** @return true if the documents are in a JSON array rather than NDJSON */
+    public boolean isArray() {
+        return array;
+    }
+
+    /**
+     * Appends the next document to a writer, as a raw value
+     *
+     * @param writer writer receiving the document
+     * @return false if there are no more documents
+     * @throws IOException if the input cannot be read
+     * @throws JsonDecodingException if the input is not a JSON array of objects or NDJSON
+     */
+    public boolean next(JsonByteWriter writer) throws IOException, JsonDecodingException {
+        if (documentStart < 0 && !scanNext()) {
+            return false;
+        }
+        writer.rawValue(buffer, documentStart, position - documentStart);
+        documentStart = -1;
+        consumed = discarded + position;
+        return true;
+    }
+
+    /**
+     * Writes the next document to an output stream, as it is
+     *
+     * @param out stream receiving the document
+     * @return false if there are no more documents
+     * @throws IOException if the input cannot be read or the output cannot be written
+     * @throws JsonDecodingException if the input is not a JSON array of objects or NDJSON
+     */
+    public boolean next(OutputStream out) throws IOException, JsonDecodingException {
+        if (documentStart < 0 && !scanNext()) {
+            return false;
+        }
+        out.write(buffer, documentStart, position - documentStart);
+        documentStart = -1;
+        consumed = discarded + position;
+        return true;
+    }
+
+    /**
+     * Reads the next document ahead without consuming it, so that its size is known before it is
+     * appended by {@link #next(JsonByteWriter)}
+     *
+     * @return size of the next document in bytes, or -1 if there are no more documents
+     * @throws IOException if the input cannot be read
+     * @throws JsonDecodingException if the input is not a JSON array of objects or NDJSON
+     */
+    public int peekSize() throws IOException, JsonDecodingException {
+        if (documentStart < 0 && !scanNext()) {
+            return -1;
+        }
+        return position - documentStart;
+    }
+
+    /** Moves past the next document, leaving it between documentStart and position */
+    private boolean scanNext() throws IOException, JsonDecodingException {
+        if (finished) {
+            return false;
+        }
+        int c = skipWhitespace();
+        if (!started && field != null) {
+            started = true;
+            if (!seekField()) {
+                finished = true;
+                return false;
+            }
+            array = true;
+            position++;
+            c = skipWhitespace();
+            if (c == ']') {
+                return finish();
+            }
+        } else if (!started) {
+            started = true;
+            if (c == '[') {
+                array = true;
+                position++;
+                c = skipWhitespace();
+                if (c == ']') {
+                    return finish();
+                }
+            }
+        } else if (array) {
+            if (c == ']') {
+                return finish();
+            }
+            if (c != ',') {
+                throw error("Expecting ',' or ']' after a document");
+            }
+            position++;
+            c = skipWhitespace();
+        }
+        if (c == -1) {
+            if (array) {
+                throw error("Unexpected end of input in JSON array");
+            }
+            finished = true;
+            return false;
+        }
+        if (c != '{') {
+            throw error("Expecting a document");
+        }
+        scanDocument();
+        return true;
+    }
+
+    private boolean finish() throws IOException, JsonDecodingException {
+        position++;
+        finished = true;
+        if (field == null && skipWhitespace() != -1) {
+            throw error("Unexpected content after JSON array");
+        }
+        return false;
+    }
+
+    /**
+     * Moves to the array held by the field, skipping the fields before it
+     *
+     * @return false if the object has no such field
+     */
+    private boolean seekField() throws IOException, JsonDecodingException {
+        if (skipWhitespace() != '{') {
+            throw error("Expecting an object");
+        }
+        position++;
+        int c = skipWhitespace();
+        while (c != '}') {
+            if (c != '"') {
+                throw error("Expecting a field name");
+            }
+            String name = readName();
+            if (skipWhitespace() != ':') {
+                throw error("Expecting ':' after a field name");
+            }
+            position++;
+            c = skipWhitespace();
+            if (name.equals(field)) {
+                if (c != '[') {
+                    throw error("Expecting an array in field " + field);
+                }
+                return true;
+            }
+            skipValue(c);
+            c = skipWhitespace();
+            if (c == ',') {
+                position++;
+                c = skipWhitespace();
+            } else if (c != '}') {
+                throw error("Expecting ',' or '}' after a field");
+            }
+        }
+        return false;
+    }
+
+    /** @return the field name starting at the current position, moving past it */
+    private String readName() throws IOException, JsonDecodingException {
+        ByteArrayOutputStream name = new ByteArrayOutputStream();
+        position++;
+        while (true) {
+            if (position == limit && !fill()) {
+                throw error("Unexpected end of input in a field name");
+            }
+            byte b = buffer[position++];
+            if (b == '"') {
+                return JsonScanner.readString(
+                        "\"" + new String(name.toByteArray(), StandardCharsets.UTF_8) + "\"", 0);
+            }
+            name.write(b);
+            if (b == '\\') {
+                if (position == limit && !fill()) {
+                    throw error("Unexpected end of input in a field name");
+                }
+                name.write(buffer[position++]);
+            }
+        }
+    }
+
+    /** Moves past the value starting at the current position */
+    private void skipValue(int c) throws IOException, JsonDecodingException {
+        if (c == '{' || c == '[') {
+            scanDocument();
+            documentStart = -1;
+        } else if (c == '"') {
+            readName();
+        } else {
+            while (true) {
+                if (position == limit && !fill()) {
+                    return;
+                }
+                byte b = buffer[position];
+                if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r'
+                        || b == '\t') {
+                    return;
+                }
+                position++;
+            }
+        }
+    }
+
+    /** @return the next non whitespace byte, not consumed, or -1 at the end of the input */
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            byte b = buffer[position];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b;
+            }
+            position++;
+        }
+    }
+
+    /** Moves past the object starting at the current position */
+    private void scanDocument() throws IOException, JsonDecodingException {
+        documentStart = position;
+        int depth = 0;
+        boolean inString = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                throw error("Unexpected end of input in a document");
+            }
+            byte[] buffer = this.buffer;
+            int limit = this.limit;
+            int i = position;
+            while (i < limit) {
+                byte b = buffer[i++];
+                if (inString) {
+                    if (b == '"') {
+                        inString = false;
+                    } else if (b == '\\') {
+                        if (i == limit) {
+                            // escaped byte not read yet, step back to handle it after filling
+                            i--;
+                            break;
+                        }
+                        i++;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    if (--depth == 0) {
+                        position = i;
+                        return;
+                    }
+                }
+            }
+            if (i == position) {
+                // a lone backslash at the end of the buffer
+                if (!fill()) {
+                    throw error("Unexpected end of input in a document");
+                }
+                continue;
+            }
+            position = i;
+        }
+    }
+
+    /**
+     * Reads more input, keeping the document being scanned
+     *
+     * @return false at the end of the input
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int keep = documentStart >= 0 ? documentStart : position;
+        if (keep > 0) {
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            discarded += keep;
+            limit -= keep;
+            position -= keep;
+            if (documentStart >= 0) {
+                documentStart = 0;
+            }
+        }
+        if (buffer.length - limit < MIN_READ) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, limit + MIN_READ));
+        }
+        int read;
+        do {
+            read = in.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private JsonDecodingException error(String message) {
+        return new JsonDecodingException(message + " at byte " + (discarded + position));
+    }
+
+    /** UTF-8 encoding view of a Reader */
+    static final class Utf8Stream extends InputStream {
+        private final Reader reader;
+        private final CharsetEncoder encoder =
+                StandardCharsets.UTF_8
+                        .newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = (CharBuffer) CharBuffer.allocate(MIN_READ).flip();
+        private final byte[] single = new byte[1];
+        /** Bytes encoded for a read too short for the next char, and not given yet */
+        private final ByteBuffer pending = (ByteBuffer) ByteBuffer.allocate(4).flip();
+
+        private boolean endOfInput;
+        private boolean flushed;
+
+        Utf8Stream(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!pending.hasRemaining() && len < pending.capacity()) {
+                // The encoder makes no progress when the next char does not fit
+                int read = encode(pending.array(), 0, pending.capacity());
+                if (read < 0) {
+                    return -1;
+                }
+                pending.position(0).limit(read);
+            }
+            if (pending.hasRemaining()) {
+                int read = Math.min(len, pending.remaining());
+                pending.get(b, off, read);
+                return read;
+            }
+            return encode(b, off, len);
+        }
+
+        private int encode(byte[] b, int off, int len) throws IOException {
+            ByteBuffer out = ByteBuffer.wrap(b, off, len);
+            while (true) {
+                encoder.encode(chars, out, endOfInput);
+                if (out.position() > off) {
+                    return out.position() - off;
+                }
+                if (endOfInput) {
+                    if (!flushed) {
+                        flushed = true;
+                        encoder.flush(out);
+                    }
+                    return out.position() > off ? out.position() - off : -1;
+                }
+                chars.compact();
+                int read = reader.read(chars);
+                chars.flip();
+                if (read < 0) {
+                    endOfInput = true;
+                }
+            }
+        }
+    }
+}
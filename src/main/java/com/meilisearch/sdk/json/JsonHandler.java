@@ -1,6 +1,7 @@
 package com.meilisearch.sdk.json;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.nio.charset.StandardCharsets;
 
 public interface JsonHandler {
     /**
@@ -10,6 +11,15 @@ public interface JsonHandler {
      */
     String encode(Object o) throws MeilisearchException;
 
+    /**
+     * @param o the Object to serialize
+     * @return the serialized Object {@code o} as UTF-8 bytes, ready to be sent as a request body
+     * @throws MeilisearchException wrapped exceptions of the used json library
+     */
+    default byte[] encodeToBytes(Object o) throws MeilisearchException {
+        return encode(o).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * @param o Object to deserialize, most of the time this is a string
      * @param targetClass return type
@@ -0,0 +1,292 @@
+package com.meilisearch.sdk.json;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+
+/**
+ * Structural scanner over JSON text
+ *
+ * <p>Locates values by their offsets without building any object tree, so that callers can decode
+ * only the parts of a response they actually read.
+ */
+public final class JsonScanner {
+
+    private JsonScanner() {}
+
+    /**
+     * Skips insignificant whitespace
+     *
+     * @param json JSON text
+     * @param pos position to start from
+     * @return position of the first non-whitespace character, or the length of the text
+     */
+    public static int skipWhitespace(CharSequence json, int pos) {
+        int length = json.length();
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Skips the JSON value starting at the given position
+     *
+     * @param json JSON text
+     * @param pos position of the first character of the value
+     * @return position right after the value
+     * @throws JsonDecodingException if the text is not valid JSON
+     */
+    public static int skipValue(CharSequence json, int pos) throws JsonDecodingException {
+        int length = json.length();
+        if (pos >= length) {
+            throw unexpectedEnd();
+        }
+        char c = json.charAt(pos);
+        if (c == '"') {
+            return skipString(json, pos);
+        }
+        if (c != '{' && c != '[') {
+            int end = pos;
+            while (end < length && isScalarChar(json.charAt(end))) {
+                end++;
+            }
+            if (end == pos) {
+                throw unexpectedChar(c, pos);
+            }
+            return end;
+        }
+        int depth = 0;
+        while (pos < length) {
+            c = json.charAt(pos);
+            if (c == '"') {
+                pos = skipString(json, pos);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth == 0) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+        throw unexpectedEnd();
+    }
+
+    /**
+     * Skips the JSON string starting at the given position
+     *
+     * @param json JSON text
+     * @param pos position of the opening quote
+     * @return position right after the closing quote
+     * @throws JsonDecodingException if the string is not terminated
+     */
+    public static int skipString(CharSequence json, int pos) throws JsonDecodingException {
+        int length = json.length();
+        pos++;
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == '"') {
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    /**
+     * Reads and unescapes the JSON string starting at the given position
+     *
+     * @param json JSON text
+     * @param pos position of the opening quote
+     * @return the unescaped String
+     * @throws JsonDecodingException if the text is not a valid JSON string
+     */
+    public static String readString(CharSequence json, int pos) throws JsonDecodingException {
+        if (pos >= json.length() || json.charAt(pos) != '"') {
+            throw new JsonDecodingException("Expected a JSON string at position " + pos);
+        }
+        int end = skipString(json, pos) - 1;
+        int start = pos + 1;
+        int escape = indexOf(json, '\\', start, end);
+        if (escape < 0) {
+            return json.subSequence(start, end).toString();
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(json, start, escape);
+        for (int i = escape; i < end; i++) {
+            char c = json.charAt(i);
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            char escaped = json.charAt(++i);
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 >= end) {
+                        throw unexpectedEnd();
+                    }
+                    try {
+                        builder.append(
+                                (char)
+                                        Integer.parseInt(
+                                                json.subSequence(i + 1, i + 5).toString(), 16));
+                    } catch (NumberFormatException e) {
+                        throw new JsonDecodingException(e);
+                    }
+                    i += 4;
+                    break;
+                default:
+                    builder.append(escaped);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads the JSON integer starting at the given position
+     *
+     * @param json JSON text
+     * @param pos position of the first digit or sign
+     * @return the parsed value
+     * @throws JsonDecodingException if the value is not an integer
+     */
+    public static int readInt(CharSequence json, int pos) throws JsonDecodingException {
+        int end = skipValue(json, pos);
+        try {
+            return Integer.parseInt(json.subSequence(pos, end).toString());
+        } catch (NumberFormatException e) {
+            throw new JsonDecodingException(e);
+        }
+    }
+
+    /**
+     * Checks whether the value starting at the given position is the JSON literal {@code null}
+     *
+     * @param json JSON text
+     * @param pos position of the value
+     * @return true if the value is null
+     */
+    public static boolean isNull(CharSequence json, int pos) {
+        return pos + 4 <= json.length()
+                && json.charAt(pos) == 'n'
+                && json.charAt(pos + 1) == 'u'
+                && json.charAt(pos + 2) == 'l'
+                && json.charAt(pos + 3) == 'l';
+    }
+
+    /**
+     * Moves past the separator following an object member or an array element
+     *
+     * @param json JSON text
+     * @param pos position right after the member or element
+     * @param close closing character of the enclosing object or array
+     * @return position of the next member or element, or -1 if the enclosing value is closed
+     * @throws JsonDecodingException if neither a comma nor the closing character is found
+     */
+    public static int nextElement(CharSequence json, int pos, char close)
+            throws JsonDecodingException {
+        pos = skipWhitespace(json, pos);
+        if (pos >= json.length()) {
+            throw unexpectedEnd();
+        }
+        char c = json.charAt(pos);
+        if (c == ',') {
+            return skipWhitespace(json, pos + 1);
+        }
+        if (c == close) {
+            return -1;
+        }
+        throw unexpectedChar(c, pos);
+    }
+
+    /**
+     * Moves into an object or an array
+     *
+     * @param json JSON text
+     * @param pos position of the opening character
+     * @param open expected opening character
+     * @param close matching closing character
+     * @return position of the first member or element, or -1 if the value is empty
+     * @throws JsonDecodingException if the value does not start with the expected character
+     */
+    public static int firstElement(CharSequence json, int pos, char open, char close)
+            throws JsonDecodingException {
+        pos = skipWhitespace(json, pos);
+        if (pos >= json.length()) {
+            throw unexpectedEnd();
+        }
+        if (json.charAt(pos) != open) {
+            throw unexpectedChar(json.charAt(pos), pos);
+        }
+        pos = skipWhitespace(json, pos + 1);
+        if (pos < json.length() && json.charAt(pos) == close) {
+            return -1;
+        }
+        return pos;
+    }
+
+    /**
+     * Moves past the colon separating an object key from its value
+     *
+     * @param json JSON text
+     * @param pos position right after the key
+     * @return position of the value
+     * @throws JsonDecodingException if no colon is found
+     */
+    public static int skipColon(CharSequence json, int pos) throws JsonDecodingException {
+        pos = skipWhitespace(json, pos);
+        if (pos >= json.length() || json.charAt(pos) != ':') {
+            throw new JsonDecodingException("Expected ':' at position " + pos);
+        }
+        return skipWhitespace(json, pos + 1);
+    }
+
+    private static boolean isScalarChar(char c) {
+        return (c >= '0' && c <= '9')
+                || (c >= 'a' && c <= 'z')
+                || c == '-'
+                || c == '+'
+                || c == '.'
+                || c == 'E';
+    }
+
+    private static int indexOf(CharSequence json, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (json.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static JsonDecodingException unexpectedEnd() {
+        return new JsonDecodingException("Unexpected end of JSON input");
+    }
+
+    private static JsonDecodingException unexpectedChar(char c, int pos) {
+        return new JsonDecodingException("Unexpected character '" + c + "' at position " + pos);
+    }
+}
@@ -0,0 +1,79 @@
+package com.meilisearch.sdk.model;
+
+import com.meilisearch.sdk.DeadLetterSink;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Options of the batched document uploads of {@link com.meilisearch.sdk.Index}
+ *
+ * <p>A batch is closed when it holds {@code batchSize} documents or when the next document would
+ * take it over {@code maxBatchBytes}. A document larger than {@code maxBatchBytes} is sent alone,
+ * and fails if it is larger than {@code payloadSizeLimit}. At most {@code maxInFlight +
+ * queueCapacity} batches are held in memory at a time.
+ *
+ * <p>With {@code maxInFlight} above 1, concurrent requests can reach the server in any order, and
+ * their tasks are enqueued, then applied, in the order they arrive. When the same identifier
+ * appears in two batches, the older version of the document may then be the one kept, or an update
+ * may be applied before the addition it modifies. Keep {@code maxInFlight} at 1, the default, when
+ * the documents hold several versions of the same identifier.
+ *
+ * <p>In adaptive mode, {@code batchSize} is only the initial number of documents per batch. The
+ * batch size then moves between {@code minBatchSize} and {@code maxBatchSize}, and the number of
+ * batches in flight between 1 and {@code maxInFlight}, following the processing of the tasks.
+ *
+ * <p>With a positive {@code maxQueuedTasks}, sending pauses while more tasks of the index are
+ * enqueued or processing, until half of them are processed. Every batched write of an index checks
+ * it, including bulk and coalescing indexers, partial updates, synchronizations, file and resumable
+ * ingestions.
+ *
+ * <p>With a {@code deadLetterSink}, the primary key of each document is checked before it is added
+ * to a batch, and the documents that would make the task fail are given to the sink instead. When
+ * adding or replacing, of the documents of a batch sharing an identifier only the last one is sent
+ * and the earlier ones are given to the sink. Updates sharing an identifier are all sent, since
+ * Meilisearch merges their fields.
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class BatchOptions {
+    /** Maximum number of documents per batch */
+    private int batchSize = 1000;
+    /** Target size of the encoded batches in bytes */
+    private int maxBatchBytes = 10 * 1024 * 1024;
+    /**
+     * Largest request body accepted by the server in bytes, the {@code http-payload-size-limit}
+     * option of Meilisearch, 100MB by default
+     */
+    private int payloadSizeLimit = 100 * 1024 * 1024;
+    /**
+     * Number of batches being sent at the same time, above 1 the batches may be enqueued out of
+     * order
+     */
+    private int maxInFlight = 1;
+    /** Number of batches prepared ahead while all the in-flight batches are being sent */
+    private int queueCapacity = 1;
+    /** Longest time a document waits in the buffer of a BulkIndexer before being sent */
+    private long lingerMs = 1000;
+    /** Tune the batch size and the batches in flight from the duration of the finished tasks */
+    private boolean adaptive = false;
+    /** Smallest number of documents per batch in adaptive mode */
+    private int minBatchSize = 100;
+    /** Largest number of documents per batch in adaptive mode */
+    private int maxBatchSize = 100000;
+    /** Largest number of unfinished tasks of the index before a batch is sent, 0 for no limit */
+    private int maxQueuedTasks = 0;
+    /**
+     * Longest time in milliseconds a reindex or a synchronization waits for its tasks, 30 minutes
+     * by default
+     */
+    private long taskTimeoutMs = 30 * 60 * 1000;
+    /**
+     * Receives the documents with a missing or invalid identifier, and those replaced by a later
+     * addition of the same batch, null to send them
+     */
+    private DeadLetterSink deadLetterSink;
+
+    public BatchOptions() {}
+}
@@ -0,0 +1,40 @@
+package com.meilisearch.sdk.model;
+
+import com.meilisearch.sdk.http.URLBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Data structure of a query parameter for the cancel tasks route
+ *
+ * <p>https://docs.meilisearch.com/reference/api/tasks.html#cancel-tasks
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class CancelTasksQuery {
+    private int[] uid;
+    private String[] status;
+    private String[] type;
+    private String[] indexUid;
+
+    public CancelTasksQuery() {}
+
+    public String toQuery() {
+        String[] uids = null;
+        if (this.getUid() != null) {
+            uids = new String[this.getUid().length];
+            for (int i = 0; i < uids.length; i++) {
+                uids[i] = Integer.toString(this.getUid()[i]);
+            }
+        }
+        URLBuilder urlb =
+                new URLBuilder()
+                        .addParameter("uid", uids)
+                        .addParameter("status", this.getStatus())
+                        .addParameter("type", this.getType())
+                        .addParameter("indexUid", this.getIndexUid());
+        return urlb.getURL();
+    }
+}
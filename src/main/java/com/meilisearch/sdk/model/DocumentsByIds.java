@@ -0,0 +1,18 @@
+package com.meilisearch.sdk.model;
+
+import java.util.List;
+import lombok.Getter;
+
+/** Documents fetched by identifier, in the requested order, and identifiers not found */
+@Getter
+public class DocumentsByIds<T> {
+    /** One document per requested identifier, at the same position, null when not found */
+    protected List<T> results;
+    /** Identifiers not found, once each */
+    protected List<String> missing;
+
+    public DocumentsByIds(List<T> results, List<String> missing) {
+        this.results = results;
+        this.missing = missing;
+    }
+}
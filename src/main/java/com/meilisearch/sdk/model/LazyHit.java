@@ -0,0 +1,186 @@
+package com.meilisearch.sdk.model;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.json.JsonScanner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Single hit of a {@link LazySearchResult}
+ *
+ * <p>The hit only keeps its range in the raw response. Its top-level fields are located on first
+ * access and each field is decoded only when it is read.
+ */
+public class LazyHit {
+    private final String raw;
+    private final int start;
+    private final int end;
+    private final JsonHandler jsonHandler;
+
+    private String[] names;
+    private int[] valueStarts;
+    private int fieldCount = -1;
+
+    LazyHit(String raw, int start, int end, JsonHandler jsonHandler) {
+        this.raw = raw;
+        this.start = start;
+        this.end = end;
+        this.jsonHandler = jsonHandler;
+    }
+
+    /**
+     * Gets the hit as raw JSON
+     *
+     * @return JSON String of the hit
+     */
+    public String getRaw() {
+        return raw.substring(start, end);
+    }
+
+    /**
+     * Checks whether the hit contains a field
+     *
+     * @param field name of the field
+     * @return true if the field is present, even with a null value
+     * @throws MeilisearchException if the hit is not a valid JSON object
+     */
+    public boolean has(String field) throws MeilisearchException {
+        return indexOf(field) >= 0;
+    }
+
+    /**
+     * Gets the names of the top-level fields of the hit
+     *
+     * @return list of field names in response order
+     * @throws MeilisearchException if the hit is not a valid JSON object
+     */
+    public List<String> getFieldNames() throws MeilisearchException {
+        index();
+        return new ArrayList<String>(Arrays.asList(names).subList(0, fieldCount));
+    }
+
+    /**
+     * Gets a field of the hit as raw JSON
+     *
+     * @param field name of the field
+     * @return JSON String of the field value or null if the field is absent
+     * @throws MeilisearchException if the hit is not a valid JSON object
+     */
+    public String getRaw(String field) throws MeilisearchException {
+        int i = indexOf(field);
+        if (i < 0) {
+            return null;
+        }
+        return raw.substring(valueStarts[i], JsonScanner.skipValue(raw, valueStarts[i]));
+    }
+
+    /**
+     * Gets a field of the hit as String without going through the JsonHandler
+     *
+     * @param field name of the field
+     * @return the unescaped String for string values, the JSON text for other values, or null if
+     *     the field is absent or null
+     * @throws MeilisearchException if the hit is not a valid JSON object
+     */
+    public String getString(String field) throws MeilisearchException {
+        int i = indexOf(field);
+        if (i < 0 || JsonScanner.isNull(raw, valueStarts[i])) {
+            return null;
+        }
+        int valueStart = valueStarts[i];
+        if (raw.charAt(valueStart) == '"') {
+            return JsonScanner.readString(raw, valueStart);
+        }
+        return raw.substring(valueStart, JsonScanner.skipValue(raw, valueStart));
+    }
+
+    /**
+     * Decodes a field of the hit
+     *
+     * @param field name of the field
+     * @return decoded value or null if the field is absent
+     * @throws MeilisearchException if the field cannot be decoded
+     */
+    public Object get(String field) throws MeilisearchException {
+        return get(field, Object.class);
+    }
+
+    /**
+     * Decodes a field of the hit into the given class
+     *
+     * @param <T> Type of the field value
+     * @param field name of the field
+     * @param targetClass Class of the field value
+     * @return decoded value or null if the field is absent
+     * @throws MeilisearchException if the field cannot be decoded
+     */
+    public <T> T get(String field, Class<T> targetClass) throws MeilisearchException {
+        String value = getRaw(field);
+        if (value == null) {
+            return null;
+        }
+        return jsonHandler.decode(value, targetClass);
+    }
+
+    /**
+     * Decodes the whole hit into the given class
+     *
+     * @param <T> Type of the document
+     * @param targetClass Class of the document
+     * @return decoded hit
+     * @throws MeilisearchException if the hit cannot be decoded
+     */
+    public <T> T decode(Class<T> targetClass) throws MeilisearchException {
+        return jsonHandler.decode(getRaw(), targetClass);
+    }
+
+    /**
+     * Decodes the whole hit the same way {@link SearchResult} does
+     *
+     * @return decoded hit
+     * @throws MeilisearchException if the hit cannot be decoded
+     */
+    public HashMap<String, Object> toMap() throws MeilisearchException {
+        return jsonHandler.decode(getRaw(), HashMap.class);
+    }
+
+    @Override
+    public String toString() {
+        return getRaw();
+    }
+
+    private int indexOf(String field) throws MeilisearchException {
+        index();
+        for (int i = 0; i < fieldCount; i++) {
+            if (names[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void index() throws MeilisearchException {
+        if (fieldCount >= 0) {
+            return;
+        }
+        names = new String[8];
+        valueStarts = new int[8];
+        int count = 0;
+        int pos = JsonScanner.firstElement(raw, start, '{', '}');
+        while (pos >= 0) {
+            if (count == names.length) {
+                names = Arrays.copyOf(names, count * 2);
+                valueStarts = Arrays.copyOf(valueStarts, count * 2);
+            }
+            names[count] = JsonScanner.readString(raw, pos);
+            pos = JsonScanner.skipColon(raw, JsonScanner.skipString(raw, pos));
+            valueStarts[count] = pos;
+            count++;
+            pos = JsonScanner.nextElement(raw, JsonScanner.skipValue(raw, pos), '}');
+        }
+        fieldCount = count;
+    }
+}
@@ -0,0 +1,179 @@
+package com.meilisearch.sdk.model;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.json.JsonScanner;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Meilisearch search response data structure with on-demand hit decoding
+ *
+ * <p>The response is scanned once to locate each hit; hits and their fields are only decoded when
+ * they are accessed. Offsets point into the raw response String.
+ *
+ * <p>https://docs.meilisearch.com/references/search.html
+ */
+public class LazySearchResult {
+    @Getter private final String raw;
+    @Getter private int offset;
+    @Getter private int limit;
+    @Getter private int estimatedTotalHits;
+    @Getter private int processingTimeMs;
+    @Getter private String query;
+
+    private final JsonHandler jsonHandler;
+    private int[] hitBounds = new int[0];
+    private int hitCount;
+    private int facetDistributionStart = -1;
+    private HashMap<String, Object> facetDistribution;
+
+    /**
+     * Scans a raw search response
+     *
+     * @param raw search response as returned by the search route
+     * @param jsonHandler handler used to decode hits and fields when they are accessed
+     * @throws MeilisearchException if the response is not a valid search response
+     */
+    public LazySearchResult(String raw, JsonHandler jsonHandler) throws MeilisearchException {
+        this.raw = raw;
+        this.jsonHandler = jsonHandler;
+        scan();
+    }
+
+    /**
+     * Gets the hits of the search
+     *
+     * @return list of hits, each one decoded only when its fields are read
+     */
+    public List<LazyHit> getHits() {
+        return new AbstractList<LazyHit>() {
+            @Override
+            public LazyHit get(int index) {
+                return getHit(index);
+            }
+
+            @Override
+            public int size() {
+                return hitCount;
+            }
+        };
+    }
+
+    /**
+     * Gets a single hit of the search
+     *
+     * @param index position of the hit in the response
+     * @return the hit at the given position
+     */
+    public LazyHit getHit(int index) {
+        if (index < 0 || index >= hitCount) {
+            throw new IndexOutOfBoundsException("Hit " + index + " of " + hitCount);
+        }
+        return new LazyHit(raw, hitBounds[2 * index], hitBounds[2 * index + 1], jsonHandler);
+    }
+
+    /**
+     * Gets the number of hits returned
+     *
+     * @return number of hits in the response
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the facet distribution, decoding it on first access
+     *
+     * @return facet distribution or null if no facets were requested
+     * @throws MeilisearchException if the facet distribution cannot be decoded
+     */
+    public Object getFacetDistribution() throws MeilisearchException {
+        if (facetDistribution == null && facetDistributionStart >= 0) {
+            int end = JsonScanner.skipValue(raw, facetDistributionStart);
+            facetDistribution =
+                    jsonHandler.decode(raw.substring(facetDistributionStart, end), HashMap.class);
+        }
+        return facetDistribution;
+    }
+
+    private void scan() throws MeilisearchException {
+        int pos = JsonScanner.firstElement(raw, 0, '{', '}');
+        while (pos >= 0) {
+            String key = JsonScanner.readString(raw, pos);
+            pos = JsonScanner.skipColon(raw, JsonScanner.skipString(raw, pos));
+            boolean isNull = JsonScanner.isNull(raw, pos);
+            if (key.equals("hits") && !isNull) {
+                pos = scanHits(pos);
+            } else {
+                if (!isNull) {
+                    readEnvelopeField(key, pos);
+                }
+                pos = JsonScanner.skipValue(raw, pos);
+            }
+            pos = JsonScanner.nextElement(raw, pos, '}');
+        }
+    }
+
+    private void readEnvelopeField(String key, int pos) throws MeilisearchException {
+        switch (key) {
+            case "offset":
+                offset = JsonScanner.readInt(raw, pos);
+                break;
+            case "limit":
+                limit = JsonScanner.readInt(raw, pos);
+                break;
+            case "estimatedTotalHits":
+                estimatedTotalHits = JsonScanner.readInt(raw, pos);
+                break;
+            case "processingTimeMs":
+                processingTimeMs = JsonScanner.readInt(raw, pos);
+                break;
+            case "query":
+                query = JsonScanner.readString(raw, pos);
+                break;
+            case "facetDistribution":
+                facetDistributionStart = pos;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private int scanHits(int pos) throws MeilisearchException {
+        int cursor = pos;
+        int hit = JsonScanner.firstElement(raw, pos, '[', ']');
+        while (hit >= 0) {
+            int hitEnd = JsonScanner.skipValue(raw, hit);
+            if (2 * hitCount + 2 > hitBounds.length) {
+                hitBounds = Arrays.copyOf(hitBounds, Math.max(16, hitBounds.length * 2));
+            }
+            hitBounds[2 * hitCount] = hit;
+            hitBounds[2 * hitCount + 1] = hitEnd;
+            hitCount++;
+            cursor = hitEnd;
+            hit = JsonScanner.nextElement(raw, hitEnd, ']');
+        }
+        return raw.indexOf(']', cursor) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LazySearchResult(hits="
+                + hitCount
+                + ", offset="
+                + offset
+                + ", limit="
+                + limit
+                + ", estimatedTotalHits="
+                + estimatedTotalHits
+                + ", processingTimeMs="
+                + processingTimeMs
+                + ", query="
+                + query
+                + ")";
+    }
+}
@@ -0,0 +1,30 @@
+package com.meilisearch.sdk.model;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/** Throughput of one stage of an {@link com.meilisearch.sdk.IngestionPipeline} */
+@Getter
+@ToString
+public class StageMetrics {
+    /** Name of the stage */
+    protected final String name;
+    /** Number of documents handled by the stage, or of batches for the upload stage */
+    protected final long count;
+    /** Number of documents dropped by the stage */
+    protected final long dropped;
+    /** Time spent in the stage, summed over its threads, in nanoseconds */
+    protected final long nanos;
+
+    public StageMetrics(String name, long count, long dropped, long nanos) {
+        this.name = name;
+        this.count = count;
+        this.dropped = dropped;
+        this.nanos = nanos;
+    }
+
+    /** @return number handled per second of time spent in the stage, by a single thread */
+    public double getThroughput() {
+        return nanos == 0 ? 0 : count * 1e9 / nanos;
+    }
+}
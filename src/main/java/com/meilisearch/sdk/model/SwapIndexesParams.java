@@ -0,0 +1,19 @@
+package com.meilisearch.sdk.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Data structure of a pair of indexes to swap
+ *
+ * <p>https://docs.meilisearch.com/reference/api/indexes.html#swap-indexes
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class SwapIndexesParams {
+    protected String[] indexes;
+
+    public SwapIndexesParams() {}
+}
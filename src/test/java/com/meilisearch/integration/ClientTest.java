@@ -9,8 +9,10 @@ import com.meilisearch.integration.classes.AbstractIT;
 import com.meilisearch.integration.classes.TestData;
 import com.meilisearch.sdk.Index;
 import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.model.BatchOptions;
 import com.meilisearch.sdk.model.IndexesQuery;
 import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.Settings;
 import com.meilisearch.sdk.model.Task;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.utils.Movie;
@@ -248,4 +250,21 @@ public class ClientTest extends AbstractIT {
         assertEquals(task.getStatus(), "enqueued");
         assertEquals("dumpCreation", dump.getType());
     }
+
+    /** Test reindex keeps the documents and applies the new settings */
+    @Test
+    public void testReindex() throws Exception {
+        String indexUid = "Reindex";
+        Index index = createEmptyIndex(indexUid, primaryKey);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+        index.waitForTask(task.getTaskUid());
+
+        Settings settings = new Settings().setSortableAttributes(new String[] {"title"});
+        TaskInfo swap = client.reindex(indexUid, settings, new BatchOptions().setBatchSize(5));
+
+        assertEquals("indexSwap", client.getTask(swap.getTaskUid()).getType());
+        assertEquals(testData.getData().size(), index.getDocuments(Movie.class).getTotal());
+        assertArrayEquals(new String[] {"title"}, index.getSettings().getSortableAttributes());
+        assertThrows(MeilisearchApiException.class, () -> client.getIndex(indexUid + "_reindex"));
+    }
 }
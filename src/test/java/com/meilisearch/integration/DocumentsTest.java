@@ -5,20 +5,36 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.google.gson.JsonObject;
 import com.meilisearch.integration.classes.AbstractIT;
 import com.meilisearch.integration.classes.TestData;
+import com.meilisearch.sdk.BulkIndexer;
+import com.meilisearch.sdk.CoalescingIndexer;
+import com.meilisearch.sdk.DeadLetterSink;
 import com.meilisearch.sdk.Index;
+import com.meilisearch.sdk.IngestionPipeline;
 import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.DocumentsByIds;
 import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @Tag("integration")
 public class DocumentsTest extends AbstractIT {
@@ -119,6 +135,47 @@ public class DocumentsTest extends AbstractIT {
         }
     }
 
+    /** Test getDocuments by identifiers */
+    @Test
+    public void testGetDocumentsByIds() throws Exception {
+        String indexUid = "GetDocumentsByIds";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+        index.waitForTask(task.getTaskUid());
+
+        String first = testData.getData().get(0).getId();
+        String second = testData.getData().get(1).getId();
+        DocumentsByIds<Movie> documents =
+                index.getDocuments(Arrays.asList(second, "0", first), Movie.class);
+
+        assertEquals(3, documents.getResults().size());
+        assertEquals(second, documents.getResults().get(0).getId());
+        assertNull(documents.getResults().get(1));
+        assertEquals(first, documents.getResults().get(2).getId());
+        assertEquals(Arrays.asList("0"), documents.getMissing());
+    }
+
+    /** Test partialUpdate sends only the changed fields */
+    @Test
+    public void testPartialUpdate() throws Exception {
+        String indexUid = "PartialUpdate";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw(), "id");
+        index.waitForTask(task.getTaskUid());
+
+        Movie movie = testData.getData().get(0);
+        TaskInfo[] tasks = index.partialUpdate().set(movie.getId(), "title", "Updated").send();
+        index.waitForTask(tasks[0].getTaskUid());
+
+        Movie updated = index.getDocument(movie.getId(), Movie.class);
+        assertEquals("Updated", updated.getTitle());
+        assertEquals(movie.getOverview(), updated.getOverview());
+    }
+
     /** Test Add multiple documents with Jackson Json Handler */
     @Test
     public void testAddDocumentsMultipleWithJacksonJsonHandler() throws Exception {
@@ -138,6 +195,70 @@ public class DocumentsTest extends AbstractIT {
         }
     }
 
+    /** Test Add documents from NDJSON */
+    @Test
+    public void testAddDocumentsNdjson() throws Exception {
+        String indexUid = "AddDocumentsNdjson";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        StringBuilder ndjson = new StringBuilder();
+        for (Movie movie : testData.getData()) {
+            ndjson.append(this.gson.toJson(movie)).append('\n');
+        }
+        TaskInfo task = index.addDocumentsNdjson(ndjson.toString(), "id");
+
+        index.waitForTask(task.getTaskUid());
+        Movie movie = index.getDocument(testData.getData().get(0).getId(), Movie.class);
+
+        assertEquals(testData.getData().get(0).getTitle(), movie.getTitle());
+        assertEquals(
+                testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
+
+    /** Test Add documents from a NDJSON file in batches */
+    @Test
+    public void testAddDocumentsFromFile(@TempDir Path dir) throws Exception {
+        String indexUid = "AddDocumentsFromFile";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        StringBuilder ndjson = new StringBuilder();
+        for (Movie movie : testData.getData()) {
+            ndjson.append(this.gson.toJson(movie)).append('\n');
+        }
+        Path file =
+                Files.write(
+                        dir.resolve("movies.ndjson"),
+                        ndjson.toString().getBytes(StandardCharsets.UTF_8));
+        TaskInfo[] taskArr = index.addDocumentsFromFile(file, HttpBody.NDJSON, 4096, "id");
+
+        assertTrue(taskArr.length > 1);
+        for (TaskInfo task : taskArr) {
+            index.waitForTask(task.getTaskUid());
+        }
+        assertEquals(
+                testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
+
+    /** Test Add documents from CSV */
+    @Test
+    public void testAddDocumentsCsv() throws Exception {
+        String indexUid = "AddDocumentsCsv";
+        Index index = client.index(indexUid);
+
+        TaskInfo task =
+                index.addDocumentsCsv(new StringReader("id,title\n1,\"Ad Astra\"\n2,Café\n"), "id");
+
+        index.waitForTask(task.getTaskUid());
+        Movie movie = index.getDocument("2", Movie.class);
+
+        assertEquals("Café", movie.getTitle());
+        assertEquals(2, index.getDocuments(Movie.class).getTotal());
+    }
+
     /** Test Add Documents in Batches With BatchSize */
     @Test
     public void testAddDocumentsInBatches() throws Exception {
@@ -174,6 +295,228 @@ public class DocumentsTest extends AbstractIT {
         }
     }
 
+    /** Test Add Documents in Batches streamed from an InputStream */
+    @Test
+    public void testAddDocumentsInBatchesFromInputStream() throws Exception {
+        String indexUid = "AddDocumentsInBatchesFromInputStream";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo[] taskArr =
+                index.addDocumentsInBatches(
+                        new ByteArrayInputStream(
+                                testData.getRaw().getBytes(StandardCharsets.UTF_8)),
+                        7,
+                        null);
+
+        assertEquals((testData.getData().size() + 6) / 7, taskArr.length);
+        for (TaskInfo task : taskArr) {
+            index.waitForTask(task.getTaskUid());
+        }
+        assertEquals(
+                testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
+
+    /** Test add documents in batches sent in parallel */
+    @Test
+    public void testAddDocumentsInParallelBatches() throws Exception {
+        String indexUid = "AddDocumentsInParallelBatches";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo[] taskArr =
+                index.addDocumentsInBatches(
+                        new StringReader(testData.getRaw()),
+                        new BatchOptions().setBatchSize(5).setMaxInFlight(3),
+                        null);
+
+        assertEquals((testData.getData().size() + 4) / 5, taskArr.length);
+        for (int i = 1; i < taskArr.length; i++) {
+            assertTrue(taskArr[i - 1].getTaskUid() != taskArr[i].getTaskUid());
+        }
+        for (TaskInfo task : taskArr) {
+            index.waitForTask(task.getTaskUid());
+        }
+        assertEquals(
+                testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
+
+    /** Test add documents from objects encoded by the JsonHandler */
+    @Test
+    public void testAddDocumentsFromObjects() throws Exception {
+        String indexUid = "AddDocumentsFromObjects";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo[] taskArr =
+                index.addDocuments(
+                        testData.getData().iterator(), new BatchOptions().setBatchSize(10));
+
+        assertEquals((testData.getData().size() + 9) / 10, taskArr.length);
+        for (TaskInfo task : taskArr) {
+            index.waitForTask(task.getTaskUid());
+        }
+        Movie movie = index.getDocument(testData.getData().get(0).getId(), Movie.class);
+        assertEquals(testData.getData().get(0).getTitle(), movie.getTitle());
+    }
+
+    /** Test add documents waiting for the task queue of the index */
+    @Test
+    public void testAddDocumentsWithMaxQueuedTasks() throws Exception {
+        String indexUid = "AddDocumentsWithMaxQueuedTasks";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo[] taskArr =
+                index.addDocuments(
+                        testData.getData().iterator(),
+                        new BatchOptions().setBatchSize(5).setMaxQueuedTasks(2));
+        for (TaskInfo task : taskArr) {
+            index.waitForTask(task.getTaskUid());
+        }
+
+        assertEquals(
+                testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
+
+    /** Test add documents through an IngestionPipeline */
+    @Test
+    public void testIngestionPipeline() throws Exception {
+        String indexUid = "IngestionPipeline";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        IngestionPipeline<Movie, Movie> pipeline =
+                index.<Movie>ingestionPipeline(new BatchOptions().setBatchSize(10))
+                        .setParallelism(2)
+                        .transform(
+                                "uppercase",
+                                movie -> new Movie(movie.getId(), movie.getTitle().toUpperCase()));
+        TaskInfo[] taskArr = pipeline.run(testData.getData().iterator(), "id");
+        for (TaskInfo task : taskArr) {
+            index.waitForTask(task.getTaskUid());
+        }
+
+        Movie movie = index.getDocument(testData.getData().get(0).getId(), Movie.class);
+        assertEquals(testData.getData().get(0).getTitle().toUpperCase(), movie.getTitle());
+        assertEquals(testData.getData().size(), pipeline.getMetrics()[1].getCount());
+    }
+
+    /** Test add documents routing the ones without a valid identifier to a dead-letter sink */
+    @Test
+    public void testAddDocumentsWithDeadLetterSink() throws Exception {
+        String indexUid = "AddDocumentsWithDeadLetterSink";
+        Index index = client.index(indexUid);
+        List<DeadLetterSink.Reason> rejected = new ArrayList<>();
+
+        TaskInfo[] taskArr =
+                index.addDocuments(
+                        Arrays.asList(
+                                        new Movie("1", "a"),
+                                        new Movie("a b", "b"),
+                                        new Movie("1", "c"))
+                                .iterator(),
+                        new BatchOptions()
+                                .setDeadLetterSink((document, reason) -> rejected.add(reason)),
+                        "id");
+        index.waitForTask(taskArr[0].getTaskUid());
+
+        assertEquals(
+                Arrays.asList(DeadLetterSink.Reason.INVALID_ID, DeadLetterSink.Reason.DUPLICATE_ID),
+                rejected);
+        assertEquals("succeeded", index.getTask(taskArr[0].getTaskUid()).getStatus());
+        // the last document with an identifier is the one sent
+        assertEquals("c", index.getDocument("1", Movie.class).getTitle());
+    }
+
+    /** Test add documents one at a time through a BulkIndexer */
+    @Test
+    public void testBulkIndexer() throws Exception {
+        String indexUid = "BulkIndexer";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        List<TaskInfo> tasks = Collections.synchronizedList(new ArrayList<>());
+        try (BulkIndexer indexer =
+                index.bulkIndexer(
+                        new BatchOptions().setBatchSize(10),
+                        null,
+                        new BulkIndexer.Listener() {
+                            @Override
+                            public void onTask(TaskInfo task, int documents) {
+                                tasks.add(task);
+                            }
+                        })) {
+            for (Movie movie : testData.getData()) {
+                indexer.add(movie);
+            }
+        }
+
+        assertEquals((testData.getData().size() + 9) / 10, tasks.size());
+        for (TaskInfo task : tasks) {
+            index.waitForTask(task.getTaskUid());
+        }
+        assertEquals(
+                testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
+
+    /** Test updates of the same document coalesced by a CoalescingIndexer */
+    @Test
+    public void testCoalescingIndexer() throws Exception {
+        String indexUid = "CoalescingIndexer";
+        Index index = createEmptyIndex(indexUid, "id");
+
+        List<TaskInfo> tasks = Collections.synchronizedList(new ArrayList<>());
+        try (CoalescingIndexer indexer =
+                index.coalescingIndexer(
+                        new BatchOptions(),
+                        new BulkIndexer.Listener() {
+                            @Override
+                            public void onTask(TaskInfo task, int documents) {
+                                tasks.add(task);
+                            }
+                        })) {
+            indexer.update(new Movie("1", "First"));
+            indexer.update("{\"id\":\"1\",\"language\":\"en\"}");
+            indexer.update(new Movie("1", "Last"));
+        }
+
+        assertEquals(1, tasks.size());
+        index.waitForTask(tasks.get(0).getTaskUid());
+        Movie movie = index.getDocument("1", Movie.class);
+        assertEquals("Last", movie.getTitle());
+        assertEquals("en", movie.getLanguage());
+    }
+
+    /** Test synchronize documents sending only the changes */
+    @Test
+    public void testSyncDocuments(@TempDir Path dir) throws Exception {
+        String indexUid = "SyncDocuments";
+        Index index = createEmptyIndex(indexUid, "id");
+        Path hashStore = dir.resolve("hashes");
+
+        TaskInfo[] first =
+                index.syncDocuments(
+                        Arrays.asList(new Movie("1", "a"), new Movie("2", "b")).iterator(),
+                        hashStore,
+                        new BatchOptions());
+        TaskInfo[] second =
+                index.syncDocuments(
+                        Arrays.asList(new Movie("1", "z")).iterator(),
+                        hashStore,
+                        new BatchOptions());
+
+        assertEquals(1, first.length);
+        assertEquals(2, second.length);
+        Results<Movie> result = index.getDocuments(Movie.class);
+        assertEquals(1, result.getResults().length);
+        assertEquals("z", result.getResults()[0].getTitle());
+    }
+
     /** Test Update a document */
     @Test
     public void testUpdateDocument() throws Exception {
@@ -388,6 +731,49 @@ public class DocumentsTest extends AbstractIT {
         }
     }
 
+    /** Test export all documents as NDJSON */
+    @Test
+    public void testExportDocuments(@TempDir Path dir) throws Exception {
+        String indexUid = "ExportDocuments";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+        index.waitForTask(task.getTaskUid());
+
+        Path file = dir.resolve("movies.ndjson");
+        long exported = index.exportDocuments(file, new String[] {"id", "title"}, 7);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(testData.getData().size(), exported);
+        assertEquals(testData.getData().size(), lines.size());
+        Movie first = this.gson.fromJson(lines.get(0), Movie.class);
+        assertEquals(testData.getData().get(0).getTitle(), first.getTitle());
+        assertNull(first.getOverview());
+    }
+
+    /** Test iterate over all documents with prefetched pages */
+    @Test
+    public void testStreamDocuments() throws Exception {
+        String indexUid = "StreamDocuments";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+        index.waitForTask(task.getTaskUid());
+
+        List<Movie> movies;
+        try (Stream<Movie> stream =
+                index.streamDocuments(new DocumentsQuery().setLimit(20), Movie.class, 3)) {
+            movies = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(testData.getData().size(), movies.size());
+        for (int i = 0; i < movies.size(); i++) {
+            assertEquals(testData.getData().get(i).getId(), movies.get(i).getId());
+        }
+    }
+
     /** Test GetDocuments with limit */
     @Test
     public void testGetDocumentsLimit() throws Exception {
@@ -614,6 +1000,34 @@ public class DocumentsTest extends AbstractIT {
         assertFalse(containsDeletedMovie);
     }
 
+    /** Test delete documents in parallel batches */
+    @Test
+    public void testDeleteDocumentsInBatches() throws Exception {
+        String indexUid = "DeleteDocumentsInBatches";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+        index.waitForTask(task.getTaskUid());
+
+        Movie[] movies = index.getDocuments(Movie.class).getResults();
+        List<String> identifiersToDelete = getIdentifiersToDelete(movies);
+
+        TaskInfo[] tasks =
+                index.deleteDocumentsInBatches(
+                        identifiersToDelete.iterator(),
+                        new BatchOptions().setBatchSize(2).setMaxInFlight(2));
+        for (TaskInfo deletion : tasks) {
+            index.waitForTask(deletion.getTaskUid());
+        }
+
+        assertEquals(2, tasks.length);
+        movies = index.getDocuments(Movie.class).getResults();
+        assertFalse(
+                Arrays.stream(movies)
+                        .anyMatch(movie -> identifiersToDelete.contains(movie.getId())));
+    }
+
     @NotNull
     private List<String> getIdentifiersToDelete(Movie[] movies) {
         return Arrays.asList(
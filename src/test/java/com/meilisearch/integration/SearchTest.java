@@ -8,7 +8,9 @@ import com.meilisearch.integration.classes.AbstractIT;
 import com.meilisearch.integration.classes.TestData;
 import com.meilisearch.sdk.Index;
 import com.meilisearch.sdk.SearchRequest;
+import com.meilisearch.sdk.SearchTemplate;
 import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.LazySearchResult;
 import com.meilisearch.sdk.model.SearchResult;
 import com.meilisearch.sdk.model.Settings;
 import com.meilisearch.sdk.model.TaskInfo;
@@ -486,4 +488,54 @@ public class SearchTest extends AbstractIT {
 
         assertEquals(10, searchResult.getHits().size());
     }
+
+    /** Test lazy search */
+    @Test
+    public void testLazySearch() throws Exception {
+        String indexUid = "LazySearch";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+
+        index.waitForTask(task.getTaskUid());
+        LazySearchResult searchResult = index.lazySearch(new SearchRequest("batman"));
+
+        assertNull(searchResult.getFacetDistribution());
+        assertEquals(1, searchResult.getHitCount());
+        assertEquals("The Dark Knight", searchResult.getHit(0).getString("title"));
+        assertEquals("155", searchResult.getHit(0).decode(Movie.class).getId());
+        assertEquals(20, searchResult.getLimit());
+        assertEquals(1, searchResult.getEstimatedTotalHits());
+    }
+
+    /** Test search with a template */
+    @Test
+    public void testSearchWithTemplate() throws Exception {
+        String indexUid = "SearchWithTemplate";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        TaskInfo task = index.addDocuments(testData.getRaw());
+
+        index.waitForTask(task.getTaskUid());
+        SearchTemplate template =
+                new SearchTemplate(
+                        new SearchRequest(null)
+                                .setAttributesToRetrieve(new String[] {"id", "title"}));
+
+        Results resGson =
+                new GsonJsonHandler().decode(index.rawSearch(template, "a", 0, 3), Results.class);
+        SearchResult searchResult = index.search(template, "dark");
+        LazySearchResult lazySearchResult = index.lazySearch(template, "batman");
+
+        assertEquals(3, resGson.hits.length);
+        assertNull(resGson.hits[0].getOverview());
+        assertNotNull(resGson.hits[0].getTitle());
+        assertEquals("dark", searchResult.getQuery());
+        assertEquals(20, searchResult.getLimit());
+        assertEquals(1, lazySearchResult.getHitCount());
+        assertEquals("The Dark Knight", lazySearchResult.getHit(0).getString("title"));
+        assertEquals(20, lazySearchResult.getLimit());
+    }
 }
@@ -5,6 +5,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.meilisearch.integration.classes.AbstractIT;
 import com.meilisearch.integration.classes.TestData;
 import com.meilisearch.sdk.Index;
+import com.meilisearch.sdk.SupersedingWrites;
+import com.meilisearch.sdk.TasksHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.CancelTasksQuery;
+import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.Task;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TasksQuery;
@@ -148,4 +153,39 @@ public class TasksTest extends AbstractIT {
 
         assertThrows(Exception.class, () -> index.waitForTask(task.getTaskUid(), 0, 50));
     }
+
+    /** Test cancel tasks */
+    @Test
+    public void testCancelTasks() throws Exception {
+        TaskInfo task =
+                client.cancelTasks(
+                        new CancelTasksQuery().setStatus(new String[] {TasksHandler.ENQUEUED}));
+        client.waitForTask(task.getTaskUid());
+        Task cancelation = client.getTask(task.getTaskUid());
+
+        assertEquals("taskCancelation", cancelation.getType());
+        assertEquals(TasksHandler.SUCCEEDED, cancelation.getStatus());
+    }
+
+    /** Test a replacement cancels the updates enqueued before it */
+    @Test
+    public void testSupersedingWrites() throws Exception {
+        String indexUid = "SupersedingWrites";
+        TaskInfo created = client.createIndex(indexUid, "id");
+        client.waitForTask(created.getTaskUid());
+        Index index = client.getIndex(indexUid);
+        SupersedingWrites writes = client.supersedingWrites();
+
+        writes.updateDocuments(
+                index, this.testData.getData().iterator(), new BatchOptions().setBatchSize(1));
+        TaskInfo[] tasks =
+                writes.replaceDocuments(
+                        index, this.testData.getData().iterator(), new BatchOptions());
+        index.waitForTask(tasks[tasks.length - 1].getTaskUid());
+
+        assertEquals(tasks.length, writes.getTracked(indexUid));
+        assertEquals(
+                this.testData.getData().size(),
+                index.getDocuments(new DocumentsQuery().setLimit(1), Movie.class).getTotal());
+    }
 }
@@ -0,0 +1,110 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchingTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final Map<Integer, String> tasks = new HashMap<>();
+    private int nextTaskUid;
+
+    @Test
+    void batchSizeFollowsThroughput() throws Exception {
+        AdaptiveBatching adaptive =
+                new AdaptiveBatching(this::task, new BatchOptions().setBatchSize(1000));
+
+        // 1000 documents/s then 1500 documents/s: keep growing
+        finish(send(adaptive), 1000, "PT1S");
+        adaptive.update();
+        assertEquals(1500, adaptive.getBatchSize());
+        finish(send(adaptive), 1500, "PT1S");
+        adaptive.update();
+        assertEquals(2250, adaptive.getBatchSize());
+
+        // 1125 documents/s: turn back
+        finish(send(adaptive), 2250, "PT2S");
+        adaptive.update();
+        assertEquals(1500, adaptive.getBatchSize());
+    }
+
+    @Test
+    void batchSizeStaysInRange() throws Exception {
+        AdaptiveBatching adaptive =
+                new AdaptiveBatching(
+                        this::task,
+                        new BatchOptions()
+                                .setBatchSize(10)
+                                .setMinBatchSize(50)
+                                .setMaxBatchSize(60));
+        assertEquals(50, adaptive.getBatchSize());
+
+        finish(send(adaptive), 50, "PT0.1S");
+        adaptive.update();
+        assertEquals(60, adaptive.getBatchSize());
+    }
+
+    @Test
+    void inFlightFollowsBacklog() throws Exception {
+        AdaptiveBatching adaptive =
+                new AdaptiveBatching(this::task, new BatchOptions().setMaxInFlight(4));
+
+        // the server waits for batches
+        for (int i = 0; i < 5; i++) {
+            adaptive.update();
+        }
+        assertEquals(4, adaptive.getInFlightLimit());
+
+        // the server falls behind
+        for (int i = 0; i < 9; i++) {
+            send(adaptive);
+        }
+        adaptive.update();
+        assertEquals(2, adaptive.getInFlightLimit());
+    }
+
+    @Test
+    void invalidRange() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new AdaptiveBatching(
+                                this::task,
+                                new BatchOptions().setMinBatchSize(10).setMaxBatchSize(5)));
+    }
+
+    private int send(AdaptiveBatching adaptive) throws Exception {
+        int taskUid = nextTaskUid++;
+        tasks.put(taskUid, "{\"uid\":" + taskUid + ",\"status\":\"enqueued\"}");
+        adaptive.sender(batch -> info(taskUid)).send(new byte[0]);
+        return taskUid;
+    }
+
+    private void finish(int taskUid, int indexedDocuments, String duration) {
+        tasks.put(
+                taskUid,
+                "{\"uid\":"
+                        + taskUid
+                        + ",\"status\":\"succeeded\",\"duration\":\""
+                        + duration
+                        + "\",\"details\":{\"indexedDocuments\":"
+                        + indexedDocuments
+                        + "}}");
+    }
+
+    private Task task(int taskUid) throws MeilisearchException {
+        return recorder.getJsonHandler().decode(tasks.get(taskUid), Task.class);
+    }
+
+    private TaskInfo info(int taskUid) throws MeilisearchException {
+        return recorder.taskInfo(taskUid);
+    }
+}
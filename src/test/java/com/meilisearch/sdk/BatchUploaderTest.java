@@ -0,0 +1,130 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BatchUploaderTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+
+    @Test
+    void tasksInSubmissionOrder() throws Exception {
+        BatchUploader uploader =
+                new BatchUploader(
+                        batch -> {
+                            // later batches complete first
+                            sleep(10 * (10 - batch[0]));
+                            return task(batch[0]);
+                        },
+                        new BatchOptions().setMaxInFlight(4));
+
+        TaskInfo[] tasks = uploader.upload(new CountingSource(10));
+
+        assertEquals(10, tasks.length);
+        for (int i = 0; i < tasks.length; i++) {
+            assertEquals(i, tasks[i].getTaskUid());
+        }
+    }
+
+    @Test
+    void boundedInFlightAndQueuedBatches() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountingSource source = new CountingSource(20);
+        BatchUploader uploader =
+                new BatchUploader(
+                        batch -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            sleep(5);
+                            inFlight.decrementAndGet();
+                            source.sent.incrementAndGet();
+                            return task(batch[0]);
+                        },
+                        new BatchOptions().setMaxInFlight(3).setQueueCapacity(2));
+
+        assertEquals(20, uploader.upload(source).length);
+        assertTrue(maxInFlight.get() <= 3);
+        assertTrue(source.maxPending <= 5);
+    }
+
+    @Test
+    void firstFailureStopsReading() {
+        CountingSource source = new CountingSource(1000);
+        BatchUploader uploader =
+                new BatchUploader(
+                        batch -> {
+                            if (batch[0] == 3) {
+                                throw new MeilisearchCommunicationException();
+                            }
+                            return task(batch[0]);
+                        },
+                        new BatchOptions().setMaxInFlight(2));
+
+        assertThrows(MeilisearchCommunicationException.class, () -> uploader.upload(source));
+        assertTrue(source.read < 1000);
+    }
+
+    @Test
+    void sequentialWithOneInFlight() throws Exception {
+        String caller = Thread.currentThread().getName();
+        BatchUploader uploader =
+                new BatchUploader(
+                        batch -> {
+                            assertEquals(caller, Thread.currentThread().getName());
+                            return task(batch[0]);
+                        },
+                        new BatchOptions());
+
+        assertEquals(3, uploader.upload(new CountingSource(3)).length);
+    }
+
+    @Test
+    void invalidOptions() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BatchUploader(batch -> null, new BatchOptions().setMaxInFlight(0)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BatchUploader(batch -> null, new BatchOptions().setQueueCapacity(-1)));
+    }
+
+    private TaskInfo task(int uid) throws MeilisearchException {
+        return recorder.taskInfo(uid);
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Batches holding their own number */
+    private static class CountingSource implements BatchUploader.Source {
+        private final int count;
+        private final AtomicInteger sent = new AtomicInteger();
+        private volatile int read;
+        private volatile int maxPending;
+
+        CountingSource(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public byte[] next() {
+            if (read == count) {
+                return null;
+            }
+            maxPending = Math.max(maxPending, read + 1 - sent.get());
+            return new byte[] {(byte) read++};
+        }
+    }
+}
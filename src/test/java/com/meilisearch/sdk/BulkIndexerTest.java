@@ -0,0 +1,191 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.Movie;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkIndexerTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final GsonJsonHandler jsonHandler = recorder.getJsonHandler();
+    private final Documents documents = mock(Documents.class);
+    private final List<String> sent = recorder.getSent();
+    private final List<Integer> counts = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> failures = Collections.synchronizedList(new ArrayList<>());
+    private final BulkIndexer.Listener listener =
+            new BulkIndexer.Listener() {
+                @Override
+                public void onTask(TaskInfo task, int documents) {
+                    counts.add(documents);
+                }
+
+                @Override
+                public void onFailure(MeilisearchException error, int documents) {
+                    failures.add(documents);
+                }
+            };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(documents.addDocuments(eq("movies"), any(HttpBody.class), isNull()))
+                .thenAnswer(invocation -> recorder.record("add", invocation.getArgument(1)));
+        when(documents.updateDocuments(eq("movies"), any(HttpBody.class), isNull()))
+                .thenAnswer(invocation -> recorder.record("update", invocation.getArgument(1)));
+    }
+
+    @Test
+    void flushOnCount() throws Exception {
+        try (BulkIndexer indexer = indexer(new BatchOptions().setBatchSize(2))) {
+            for (int i = 1; i <= 5; i++) {
+                indexer.add(new Movie(String.valueOf(i), "Movie " + i));
+            }
+        }
+
+        assertEquals(3, sent.size());
+        assertEquals(
+                "add [{\"id\":\"1\",\"title\":\"Movie 1\"},{\"id\":\"2\",\"title\":\"Movie 2\"}]",
+                sent.get(0));
+        assertEquals("add [{\"id\":\"5\",\"title\":\"Movie 5\"}]", sent.get(2));
+        assertEquals(list(2, 2, 1), counts);
+    }
+
+    @Test
+    void flushOnBytes() throws Exception {
+        // each document takes 29 bytes
+        try (BulkIndexer indexer = indexer(new BatchOptions().setMaxBatchBytes(70))) {
+            for (int i = 1; i <= 3; i++) {
+                indexer.add(new Movie(String.valueOf(i), "Movie " + i));
+            }
+        }
+
+        assertEquals(list(2, 1), counts);
+    }
+
+    @Test
+    void flushOnLinger() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        BulkIndexer indexer =
+                new BulkIndexer(
+                        documents,
+                        recorder::tasks,
+                        "movies",
+                        null,
+                        jsonHandler,
+                        new BatchOptions().setLingerMs(20),
+                        new BulkIndexer.Listener() {
+                            @Override
+                            public void onTask(TaskInfo task, int documents) {
+                                latch.countDown();
+                            }
+                        });
+
+        indexer.update(new Movie("1", "Movie 1"));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("update [{\"id\":\"1\",\"title\":\"Movie 1\"}]", sent.get(0));
+        indexer.close();
+    }
+
+    @Test
+    void keepOrderOfAddsAndUpdates() throws Exception {
+        try (BulkIndexer indexer = indexer(new BatchOptions())) {
+            indexer.add(new Movie("1", "a"));
+            indexer.add(new Movie("2", "b"));
+            indexer.update(new Movie("1", "c"));
+            indexer.add(new Movie("3", "d"));
+        }
+
+        assertEquals(3, sent.size());
+        assertTrue(sent.get(0).startsWith("add "));
+        assertTrue(sent.get(1).startsWith("update "));
+        assertTrue(sent.get(2).startsWith("add "));
+        assertEquals(list(2, 1, 1), counts);
+    }
+
+    @Test
+    void reportFailures() throws Exception {
+        when(documents.addDocuments(eq("movies"), any(HttpBody.class), isNull()))
+                .thenThrow(new MeilisearchCommunicationException());
+
+        try (BulkIndexer indexer = indexer(new BatchOptions())) {
+            indexer.add(new Movie("1", "a"));
+            indexer.flush();
+            assertEquals(list(1), failures);
+        }
+    }
+
+    @Test
+    void reportUncheckedFailures() throws Exception {
+        when(documents.addDocuments(eq("movies"), any(HttpBody.class), isNull()))
+                .thenThrow(new IllegalStateException("closed connection pool"));
+
+        try (BulkIndexer indexer = indexer(new BatchOptions().setBatchSize(2))) {
+            for (int i = 1; i <= 3; i++) {
+                indexer.add(new Movie(String.valueOf(i), "Movie " + i));
+            }
+            indexer.flush();
+            assertEquals(list(2, 1), failures);
+        }
+    }
+
+    @Test
+    void checkTaskQueueBeforeBatches() throws Exception {
+        try (BulkIndexer indexer =
+                indexer(new BatchOptions().setBatchSize(1).setMaxQueuedTasks(4))) {
+            indexer.add(new Movie("1", "a"));
+            indexer.add(new Movie("2", "b"));
+        }
+
+        assertEquals(2, sent.size());
+        // the count of the first batch is reused while below the limit
+        assertEquals(1, recorder.getQueries().size());
+        assertEquals(
+                "?limit=5&status=enqueued,processing&indexUid=movies",
+                recorder.getQueries().get(0));
+    }
+
+    @Test
+    void rejectAfterClose() throws Exception {
+        BulkIndexer indexer = indexer(new BatchOptions());
+        indexer.close();
+
+        assertThrows(IllegalStateException.class, () -> indexer.add(new Movie("1", "a")));
+        assertThrows(IllegalStateException.class, indexer::flush);
+        indexer.close();
+    }
+
+    @Test
+    void rejectZeroLinger() {
+        assertThrows(
+                IllegalArgumentException.class, () -> indexer(new BatchOptions().setLingerMs(0)));
+    }
+
+    private BulkIndexer indexer(BatchOptions options) {
+        return new BulkIndexer(
+                documents, recorder::tasks, "movies", null, jsonHandler, options, listener);
+    }
+
+    private static List<Integer> list(Integer... values) {
+        List<Integer> list = new ArrayList<>();
+        Collections.addAll(list, values);
+        return list;
+    }
+}
@@ -0,0 +1,122 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.exceptions.APIError;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.SwapIndexesParams;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClientTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final Map<Integer, String> statuses = new HashMap<>();
+    private final Client client = spy(new Client(new Config("http://localhost:7700")));
+    private final Index live = mock(Index.class);
+    private final Index shadow = mock(Index.class);
+    private int nextTaskUid;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        doReturn(live).when(client).getIndex("movies");
+        doThrow(new MeilisearchApiException(new APIError().setCode("index_not_found")))
+                .when(client)
+                .getIndex("movies_reindex");
+        doReturn(shadow).when(client).index("movies_reindex");
+        doAnswer(invocation -> task("succeeded")).when(client).deleteIndex("movies_reindex");
+        doAnswer(invocation -> task("succeeded")).when(client).createIndex("movies_reindex", "id");
+        doAnswer(invocation -> task("succeeded")).when(client).swapIndexes(any());
+        doAnswer(
+                        invocation -> {
+                            int taskUid = invocation.getArgument(0);
+                            return recorder.task(taskUid, statuses.get(taskUid));
+                        })
+                .when(client)
+                .getTask(anyInt());
+        when(live.getPrimaryKey()).thenReturn("id");
+        when(live.getSettings()).thenReturn(new Settings());
+        when(shadow.getPrimaryKey()).thenReturn("id");
+        when(shadow.updateSettings(any())).thenAnswer(invocation -> task("succeeded"));
+    }
+
+    @Test
+    void swapOnceEveryTaskSucceeded() throws Exception {
+        when(live.copyDocumentsTo(eq(shadow), any()))
+                .thenAnswer(invocation -> new TaskInfo[] {task("succeeded")});
+
+        client.reindex("movies", new Settings(), new BatchOptions());
+
+        verify(client).swapIndexes(any(SwapIndexesParams[].class));
+        verify(client).deleteIndex("movies_reindex");
+    }
+
+    @Test
+    void failedSettingsTaskStopsBeforeSwap() throws Exception {
+        when(shadow.updateSettings(any())).thenAnswer(invocation -> task("failed"));
+        when(live.copyDocumentsTo(eq(shadow), any()))
+                .thenAnswer(invocation -> new TaskInfo[] {task("succeeded")});
+
+        assertThrows(
+                MeilisearchException.class,
+                () -> client.reindex("movies", new Settings(), new BatchOptions()));
+
+        verify(client, never()).swapIndexes(any());
+        verify(client).deleteIndex("movies_reindex");
+    }
+
+    @Test
+    void failedDocumentTaskStopsBeforeSwap() throws Exception {
+        when(live.copyDocumentsTo(eq(shadow), any()))
+                .thenAnswer(invocation -> new TaskInfo[] {task("succeeded"), task("failed")});
+
+        assertThrows(
+                MeilisearchException.class,
+                () -> client.reindex("movies", null, new BatchOptions()));
+
+        verify(client, never()).swapIndexes(any());
+    }
+
+    @Test
+    void stuckTaskTimesOutAndKeepsShadowIndex() throws Exception {
+        when(live.copyDocumentsTo(eq(shadow), any()))
+                .thenAnswer(invocation -> new TaskInfo[] {task("processing")});
+
+        assertThrows(
+                MeilisearchTimeoutException.class,
+                () -> client.reindex("movies", null, new BatchOptions().setTaskTimeoutMs(200)));
+
+        verify(client, never()).swapIndexes(any());
+        verify(client, never()).deleteIndex("movies_reindex");
+    }
+
+    @Test
+    void existingShadowIndexIsNotTouched() throws Exception {
+        doReturn(shadow).when(client).getIndex("movies_reindex");
+
+        assertThrows(
+                MeilisearchException.class,
+                () -> client.reindex("movies", null, new BatchOptions()));
+
+        verify(client, never()).createIndex(any(), any());
+        verify(client, never()).deleteIndex(any());
+    }
+
+    private TaskInfo task(String status) throws MeilisearchException {
+        int taskUid = ++nextTaskUid;
+        statuses.put(taskUid, status);
+        return recorder.taskInfo(taskUid);
+    }
+}
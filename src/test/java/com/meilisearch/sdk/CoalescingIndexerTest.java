@@ -0,0 +1,132 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.utils.Movie;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingIndexerTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final GsonJsonHandler jsonHandler = recorder.getJsonHandler();
+    private final Documents documents = mock(Documents.class);
+    private final List<String> sent = recorder.getSent();
+    private final List<Integer> failures = Collections.synchronizedList(new ArrayList<>());
+    private final BulkIndexer.Listener listener =
+            new BulkIndexer.Listener() {
+                @Override
+                public void onFailure(MeilisearchException error, int documents) {
+                    failures.add(documents);
+                }
+            };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(documents.addDocuments(eq("movies"), any(HttpBody.class), eq("id")))
+                .thenAnswer(invocation -> recorder.record("add", invocation.getArgument(1)));
+        when(documents.updateDocuments(eq("movies"), any(HttpBody.class), eq("id")))
+                .thenAnswer(invocation -> recorder.record("update", invocation.getArgument(1)));
+    }
+
+    @Test
+    void mergeUpdatesOfTheSameDocument() throws Exception {
+        try (CoalescingIndexer indexer = indexer(new BatchOptions().setLingerMs(60000))) {
+            indexer.update("{\"id\":1,\"title\":\"a\",\"genre\":\"drama\"}");
+            indexer.update("{\"id\":\"1\",\"title\":\"b\"}");
+            indexer.update("{\"id\":1,\"title\":\"c\",\"year\":2000}");
+        }
+
+        assertEquals(1, sent.size());
+        assertEquals(
+                "update [{\"id\":1,\"title\":\"c\",\"genre\":\"drama\",\"year\":2000}]",
+                sent.get(0));
+    }
+
+    @Test
+    void additionReplacesEarlierChanges() throws Exception {
+        try (CoalescingIndexer indexer = indexer(new BatchOptions().setLingerMs(60000))) {
+            indexer.update(new Movie("1", "a"));
+            indexer.add("{\"id\":\"1\",\"genre\":\"drama\"}");
+            indexer.update("{\"id\":\"1\",\"title\":\"b\"}");
+            indexer.update(new Movie("2", "c"));
+        }
+
+        assertEquals(2, sent.size());
+        assertEquals("add [{\"id\":\"1\",\"genre\":\"drama\",\"title\":\"b\"}]", sent.get(0));
+        assertEquals("update [{\"id\":\"2\",\"title\":\"c\"}]", sent.get(1));
+    }
+
+    @Test
+    void flushAtEndOfWindow() throws Exception {
+        try (CoalescingIndexer indexer = indexer(new BatchOptions().setLingerMs(20))) {
+            indexer.update(new Movie("1", "a"));
+            for (int i = 0; i < 250 && sent.isEmpty(); i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, sent.size());
+        }
+    }
+
+    @Test
+    void flushWhenBatchSizeIsReached() throws Exception {
+        try (CoalescingIndexer indexer =
+                indexer(new BatchOptions().setLingerMs(60000).setBatchSize(2))) {
+            indexer.update(new Movie("1", "a"));
+            indexer.update(new Movie("1", "b"));
+            indexer.update(new Movie("2", "c"));
+            indexer.flush();
+            assertEquals(1, sent.size());
+        }
+    }
+
+    @Test
+    void reportUncheckedFailuresAndSendTheRestOfTheWindow() throws Exception {
+        when(documents.addDocuments(eq("movies"), any(HttpBody.class), eq("id")))
+                .thenThrow(new IllegalStateException("closed connection pool"));
+
+        try (CoalescingIndexer indexer = indexer(new BatchOptions().setLingerMs(60000))) {
+            indexer.add(new Movie("1", "a"));
+            indexer.add(new Movie("2", "b"));
+            indexer.update(new Movie("3", "c"));
+            indexer.flush();
+
+            assertEquals(Arrays.asList(2), failures);
+            assertEquals(Arrays.asList("update [{\"id\":\"3\",\"title\":\"c\"}]"), sent);
+        }
+    }
+
+    @Test
+    void rejectDocumentWithoutPrimaryKey() {
+        CoalescingIndexer indexer = indexer(new BatchOptions());
+
+        assertThrows(MeilisearchException.class, () -> indexer.update("{\"title\":\"a\"}"));
+    }
+
+    @Test
+    void rejectAfterClose() throws Exception {
+        CoalescingIndexer indexer = indexer(new BatchOptions());
+        indexer.close();
+
+        assertThrows(IllegalStateException.class, () -> indexer.update("{\"id\":\"1\"}"));
+        assertThrows(IllegalStateException.class, indexer::flush);
+        indexer.close();
+    }
+
+    private CoalescingIndexer indexer(BatchOptions options) {
+        return new CoalescingIndexer(
+                documents, recorder::tasks, "movies", "id", jsonHandler, options, listener);
+    }
+}
@@ -0,0 +1,119 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.Movie;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DeltaSyncTest {
+
+    @TempDir Path directory;
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final Map<Integer, String> statuses = new HashMap<>();
+    private final List<String> sent = new ArrayList<>();
+    private final List<List<String>> deleted = new ArrayList<>();
+    private String status = "succeeded";
+    private BatchOptions options = new BatchOptions().setBatchSize(2);
+
+    @Test
+    void sendOnlyChangesAndDeleteMissing() throws Exception {
+        assertEquals(2, run(new Movie("1", "a"), new Movie("2", "b"), new Movie("3", "c")).length);
+        assertEquals(2, sent.size());
+
+        sent.clear();
+        DeltaSync sync = sync();
+        TaskInfo[] tasks =
+                sync.run(
+                        Arrays.asList(new Movie("1", "a"), new Movie("3", "z"), new Movie("4", "d"))
+                                .iterator());
+
+        assertEquals(2, tasks.length);
+        assertEquals(1, sync.getUnchanged());
+        assertEquals(
+                Arrays.asList("[{\"id\":\"3\",\"title\":\"z\"},{\"id\":\"4\",\"title\":\"d\"}]"),
+                sent);
+        assertEquals(Arrays.asList(Arrays.asList("2")), deleted);
+    }
+
+    @Test
+    void failedTaskKeepsPreviousStore() throws Exception {
+        run(new Movie("1", "a"));
+
+        status = "failed";
+        sent.clear();
+        assertThrows(MeilisearchException.class, () -> run(new Movie("1", "b")));
+
+        status = "succeeded";
+        sent.clear();
+        run(new Movie("1", "b"));
+        assertEquals(1, sent.size());
+        sent.clear();
+        run(new Movie("1", "b"));
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    void stuckTaskTimesOutAndKeepsPreviousStore() throws Exception {
+        run(new Movie("1", "a"));
+
+        status = "enqueued";
+        options.setTaskTimeoutMs(200);
+        assertThrows(MeilisearchTimeoutException.class, () -> run(new Movie("1", "b")));
+
+        status = "succeeded";
+        sent.clear();
+        run(new Movie("1", "b"));
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    void documentWithoutPrimaryKey() {
+        assertThrows(MeilisearchException.class, () -> run("{\"title\":\"a\"}"));
+    }
+
+    private TaskInfo[] run(Object... documents) throws MeilisearchException {
+        return sync().run(Arrays.asList(documents).iterator());
+    }
+
+    private DeltaSync sync() {
+        return new DeltaSync(
+                batch -> info(new String(batch, StandardCharsets.UTF_8), sent),
+                ids -> {
+                    deleted.add(ids);
+                    return info(null, null);
+                },
+                this::task,
+                "id",
+                recorder.getJsonHandler(),
+                directory.resolve("hashes"),
+                options);
+    }
+
+    private TaskInfo info(String batch, List<String> batches) throws MeilisearchException {
+        if (batches != null) {
+            batches.add(batch);
+        }
+        int taskUid = statuses.size();
+        statuses.put(taskUid, status);
+        return recorder.taskInfo(taskUid);
+    }
+
+    private Task task(int taskUid) throws MeilisearchException {
+        return recorder.task(taskUid, statuses.get(taskUid));
+    }
+}
@@ -0,0 +1,104 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.json.JsonDocumentStream;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.utils.Movie;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class DocumentBatcherTest {
+
+    @Test
+    void lastBatchOnlyHoldsRemainingDocuments() throws Exception {
+        DocumentBatcher batcher =
+                new DocumentBatcher(
+                        new JsonDocumentStream(
+                                new StringReader(
+                                        "[{\"id\":1},{\"id\":2},{\"id\":3},{\"id\":4},{\"id\":5}]")),
+                        new BatchOptions().setBatchSize(2));
+
+        assertEquals("[{\"id\":1},{\"id\":2}]", string(batcher.next()));
+        assertEquals("[{\"id\":3},{\"id\":4}]", string(batcher.next()));
+        assertEquals("[{\"id\":5}]", string(batcher.next()));
+        assertNull(batcher.next());
+    }
+
+    @Test
+    void ndjsonBatches() throws Exception {
+        DocumentBatcher batcher =
+                new DocumentBatcher(
+                        new JsonDocumentStream(new StringReader("{\"id\":1}\n{\"id\":2}\n")),
+                        new BatchOptions());
+
+        assertEquals("[{\"id\":1},{\"id\":2}]", string(batcher.next()));
+        assertNull(batcher.next());
+    }
+
+    @Test
+    void invalidBatchSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new DocumentBatcher(
+                                new JsonDocumentStream(new StringReader("[]")),
+                                new BatchOptions().setBatchSize(0)));
+    }
+
+    @Test
+    void batchesBoundedInBytes() throws Exception {
+        // documents of 10, 11, 10 and 30 bytes
+        DocumentBatcher batcher =
+                new DocumentBatcher(
+                        new JsonDocumentStream(
+                                new StringReader(
+                                        "{\"id\":\"1\"}\n"
+                                                + "{\"id\":\"22\"}\n"
+                                                + "{\"id\":\"3\"}\n"
+                                                + "{\"id\":\"4\",\"text\":\"abcdefghijklmn\"}\n")),
+                        new BatchOptions().setMaxBatchBytes(24));
+
+        assertEquals("[{\"id\":\"1\"},{\"id\":\"22\"}]", string(batcher.next()));
+        assertEquals("[{\"id\":\"3\"}]", string(batcher.next()));
+        // larger than maxBatchBytes but within the payload size limit
+        assertEquals("[{\"id\":\"4\",\"text\":\"abcdefghijklmn\"}]", string(batcher.next()));
+        assertNull(batcher.next());
+    }
+
+    @Test
+    void documentOverPayloadSizeLimit() throws Exception {
+        DocumentBatcher batcher =
+                new DocumentBatcher(
+                        new JsonDocumentStream(
+                                new StringReader("[{\"id\":1},{\"id\":2,\"text\":\"abcdef\"}]")),
+                        new BatchOptions().setPayloadSizeLimit(20));
+
+        assertEquals("[{\"id\":1}]", string(batcher.next()));
+        assertThrows(MeilisearchException.class, batcher::next);
+    }
+
+    @Test
+    void encodedObjects() throws Exception {
+        DocumentBatcher batcher =
+                new DocumentBatcher(
+                        Arrays.asList(new Movie("1", "a"), new Movie("2", "b"), new Movie("3", "c"))
+                                .iterator(),
+                        new GsonJsonHandler(),
+                        new BatchOptions().setBatchSize(2));
+
+        assertEquals(
+                "[{\"id\":\"1\",\"title\":\"a\"},{\"id\":\"2\",\"title\":\"b\"}]",
+                string(batcher.next()));
+        assertEquals("[{\"id\":\"3\",\"title\":\"c\"}]", string(batcher.next()));
+        assertNull(batcher.next());
+    }
+
+    private static String string(byte[] batch) {
+        return new String(batch, StandardCharsets.UTF_8);
+    }
+}
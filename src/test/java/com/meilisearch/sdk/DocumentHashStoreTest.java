@@ -0,0 +1,93 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DocumentHashStoreTest {
+
+    @Test
+    void putGrowAndGet() {
+        DocumentHashStore store = new DocumentHashStore(0);
+        for (int i = 0; i < 5000; i++) {
+            store.put(id("doc-" + i), i + 1);
+        }
+        store.put(id("doc-42"), 7);
+
+        assertEquals(5000, store.size());
+        assertEquals(7, store.get(id("doc-42")));
+        assertEquals(4000, store.get(id("doc-3999")));
+        assertEquals(0, store.get(id("doc-5000")));
+    }
+
+    @Test
+    void saveAndLoad(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("hashes");
+        DocumentHashStore store = new DocumentHashStore(10);
+        store.put(id("a"), 1);
+        store.put(id("Café"), DocumentHashStore.hash(id("content")));
+        store.save(file);
+
+        DocumentHashStore loaded = DocumentHashStore.load(file);
+
+        assertEquals(2, loaded.size());
+        assertEquals(1, loaded.get(id("a")));
+        assertEquals(DocumentHashStore.hash(id("content")), loaded.get(id("Café")));
+        assertEquals(0, loaded.get(id("b")));
+        List<String> ids = new ArrayList<>();
+        for (Iterator<byte[]> it = loaded.ids(); it.hasNext(); ) {
+            ids.add(new String(it.next(), StandardCharsets.UTF_8));
+        }
+        assertEquals(2, ids.size());
+        assertEquals("a", ids.get(0));
+        assertEquals("Café", ids.get(1));
+        assertThrows(IllegalStateException.class, () -> loaded.put(id("b"), 1));
+    }
+
+    @Test
+    void saveOverLoadedFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("hashes");
+        DocumentHashStore store = new DocumentHashStore(0);
+        store.put(id("a"), 1);
+        store.save(file);
+
+        DocumentHashStore loaded = DocumentHashStore.load(file);
+        store.put(id("b"), 2);
+        store.save(file);
+
+        assertEquals(1, loaded.size());
+        assertEquals(1, loaded.get(id("a")));
+        assertEquals(2, DocumentHashStore.load(file).size());
+    }
+
+    @Test
+    void rejectCorruptCapacity(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("hashes");
+        new DocumentHashStore(0).save(file);
+        byte[] content = Files.readAllBytes(file);
+        // capacity of 1023 slots, with the file length matching it
+        ByteBuffer.wrap(content).putInt(8, 1023);
+        Files.write(file, Arrays.copyOf(content, content.length - 24));
+
+        assertThrows(IOException.class, () -> DocumentHashStore.load(file));
+    }
+
+    @Test
+    void loadMissingFile(@TempDir Path dir) throws Exception {
+        assertEquals(0, DocumentHashStore.load(dir.resolve("missing")).size());
+    }
+
+    private static byte[] id(String id) {
+        return id.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,110 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.UncheckedMeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.utils.Movie;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DocumentPagerTest {
+
+    private static final int TOTAL = 2345;
+
+    private final GsonJsonHandler jsonHandler = new GsonJsonHandler();
+    private final List<Integer> fetched = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void iterateInOrder() {
+        assertEquals(ids(0, TOTAL), read(new DocumentPager<>(this::fetch, -1, 20, 1)));
+    }
+
+    @Test
+    void iterateRangesInParallel() {
+        assertEquals(ids(0, TOTAL), read(new DocumentPager<>(this::fetch, -1, 20, 4)));
+    }
+
+    @Test
+    void startAtOffset() {
+        assertEquals(ids(2000, TOTAL), read(new DocumentPager<>(this::fetch, 2000, 100, 2)));
+    }
+
+    @Test
+    void pageSizeGrowsWhilePagesAreFast() {
+        DocumentPager<Movie> pager = new DocumentPager<>(this::fetch, -1, 20, 1);
+        for (int i = 0; i < 20; i++) {
+            pager.next();
+        }
+        assertEquals(40, pager.getPageSize());
+        pager.close();
+    }
+
+    @Test
+    void nextPageIsPrefetched() throws Exception {
+        DocumentPager<Movie> pager = new DocumentPager<>(this::fetch, -1, 20, 1);
+        pager.next();
+        for (int i = 0; i < 250 && fetched.size() < 2; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(2, fetched.size());
+        assertEquals(20, fetched.get(1));
+        pager.close();
+        assertFalse(pager.hasNext());
+    }
+
+    @Test
+    void failureIsRethrown() {
+        DocumentPager<Movie> pager =
+                new DocumentPager<>(
+                        (offset, limit) -> {
+                            if (offset > 0) {
+                                throw new MeilisearchCommunicationException("connection lost");
+                            }
+                            return fetch(offset, limit);
+                        },
+                        -1,
+                        20,
+                        1);
+        UncheckedMeilisearchException e =
+                assertThrows(UncheckedMeilisearchException.class, () -> read(pager));
+        assertTrue(e.getCause() instanceof MeilisearchCommunicationException);
+    }
+
+    private Results<Movie> fetch(int offset, int limit) throws MeilisearchException {
+        fetched.add(offset);
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        for (int id = offset; id < Math.min(TOTAL, offset + limit); id++) {
+            json.append(id == offset ? "" : ",").append("{\"id\":\"").append(id).append("\"}");
+        }
+        json.append("],\"offset\":")
+                .append(offset)
+                .append(",\"limit\":")
+                .append(limit)
+                .append(",\"total\":")
+                .append(TOTAL)
+                .append('}');
+        return jsonHandler.decode(json.toString(), Results.class, Movie.class);
+    }
+
+    private static List<String> read(DocumentPager<Movie> pager) {
+        List<String> ids = new ArrayList<>();
+        while (pager.hasNext()) {
+            ids.add(pager.next().getId());
+        }
+        return ids;
+    }
+
+    private static List<String> ids(int from, int to) {
+        List<String> ids = new ArrayList<>();
+        for (int id = from; id < to; id++) {
+            ids.add(String.valueOf(id));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,64 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class IdBatcherTest {
+
+    @Test
+    void batchByCount() throws Exception {
+        IdBatcher batcher =
+                IdBatcher.of(
+                        Arrays.asList("a", "b\"c", "d").iterator(),
+                        new BatchOptions().setBatchSize(2));
+
+        assertEquals(Arrays.asList("[\"a\",\"b\\\"c\"]", "[\"d\"]"), read(batcher));
+    }
+
+    @Test
+    void batchByBytes() throws Exception {
+        // 13 bytes per batch: ["a","b","c"] is 13 bytes
+        IdBatcher batcher =
+                IdBatcher.of(
+                        Arrays.asList("a", "b", "c", "d").iterator(),
+                        new BatchOptions().setMaxBatchBytes(13));
+
+        assertEquals(Arrays.asList("[\"a\",\"b\",\"c\"]", "[\"d\"]"), read(batcher));
+    }
+
+    @Test
+    void numericIdentifiers() throws Exception {
+        IdBatcher batcher =
+                IdBatcher.of(
+                        LongStream.rangeClosed(9, 12).iterator(),
+                        new BatchOptions().setMaxBatchBytes(8));
+
+        assertEquals(Arrays.asList("[9,10]", "[11,12]"), read(batcher));
+    }
+
+    @Test
+    void identifierLargerThanBatch() {
+        IdBatcher batcher =
+                IdBatcher.of(
+                        Arrays.asList("abcdefgh").iterator(),
+                        new BatchOptions().setMaxBatchBytes(8));
+
+        assertThrows(MeilisearchException.class, batcher::next);
+    }
+
+    private static List<String> read(IdBatcher batcher) throws Exception {
+        List<String> batches = new ArrayList<>();
+        for (byte[] batch = batcher.next(); batch != null; batch = batcher.next()) {
+            batches.add(new String(batch, StandardCharsets.UTF_8));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,131 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.StageMetrics;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.Movie;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IngestionPipelineTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final GsonJsonHandler jsonHandler = recorder.getJsonHandler();
+    private final Index index = new Index();
+    private final List<String> sent = recorder.getSent();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index.uid = "movies";
+        index.documents = mock(Documents.class);
+        when(index.documents.addDocuments(eq("movies"), any(HttpBody.class), eq("id")))
+                .thenAnswer(invocation -> recorder.record(invocation.getArgument(1)));
+    }
+
+    @Test
+    void stagesRunInOrderAndKeepSourceOrder() throws Exception {
+        IngestionPipeline<Movie, Movie> pipeline =
+                new IngestionPipeline<Movie, Movie>(
+                                index, jsonHandler, new BatchOptions().setBatchSize(400))
+                        .setParallelism(4)
+                        .setQueueCapacity(2)
+                        .transform(
+                                "drop odd",
+                                movie -> Integer.parseInt(movie.getId()) % 2 == 0 ? movie : null)
+                        .transform("title", movie -> new Movie(movie.getId(), "m" + movie.getId()))
+                        .validate("id", movie -> assertNotNull(movie.getId()));
+
+        TaskInfo[] tasks = pipeline.run(movies(1000).iterator(), "id");
+
+        assertEquals(2, tasks.length);
+        String expected =
+                IntStream.range(0, 1000)
+                        .filter(i -> i % 2 == 0)
+                        .mapToObj(i -> "{\"id\":\"" + i + "\",\"title\":\"m" + i + "\"}")
+                        .collect(Collectors.joining(","));
+        assertEquals("[" + expected + "]", String.join(",", sent).replace("],[", ","));
+
+        StageMetrics[] metrics = pipeline.getMetrics();
+        assertEquals(6, metrics.length);
+        assertEquals("source", metrics[0].getName());
+        assertEquals(1000, metrics[0].getCount());
+        assertEquals("drop odd", metrics[1].getName());
+        assertEquals(500, metrics[1].getDropped());
+        assertEquals(500, metrics[3].getCount());
+        assertEquals(500, metrics[4].getCount());
+        assertEquals("upload", metrics[5].getName());
+        assertEquals(2, metrics[5].getCount());
+    }
+
+    @Test
+    void failedValidationStopsThePipeline() {
+        IngestionPipeline<Movie, Movie> pipeline =
+                new IngestionPipeline<Movie, Movie>(index, jsonHandler, new BatchOptions())
+                        .validate(
+                                "id",
+                                movie -> {
+                                    if (movie.getId().equals("700")) {
+                                        throw new MeilisearchException("Invalid document 700");
+                                    }
+                                });
+
+        MeilisearchException e =
+                assertThrows(
+                        MeilisearchException.class,
+                        () -> pipeline.run(movies(2000).iterator(), "id"));
+        assertEquals("Invalid document 700", e.getMessage());
+    }
+
+    @Test
+    void errorOfTheSourceStopsThePipeline() {
+        Iterator<Movie> source =
+                new Iterator<Movie>() {
+                    private int read;
+
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public Movie next() {
+                        if (read == 300) {
+                            throw new OutOfMemoryError("source");
+                        }
+                        read++;
+                        return new Movie(Integer.toString(read), "t");
+                    }
+                };
+        IngestionPipeline<Movie, Movie> pipeline =
+                new IngestionPipeline<Movie, Movie>(index, jsonHandler, new BatchOptions());
+
+        MeilisearchException e =
+                assertTimeoutPreemptively(
+                        Duration.ofSeconds(10),
+                        () ->
+                                assertThrows(
+                                        MeilisearchException.class,
+                                        () -> pipeline.run(source, "id")));
+        assertTrue(e.getCause() instanceof OutOfMemoryError);
+    }
+
+    private List<Movie> movies(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Movie(Integer.toString(i), "t"))
+                .collect(Collectors.toList());
+    }
+}
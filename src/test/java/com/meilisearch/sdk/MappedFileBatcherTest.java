@@ -0,0 +1,137 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileBatcherTest {
+
+    @Test
+    void splitNdjsonAtLineBreaks(@TempDir Path dir) throws Exception {
+        // lines of 9 bytes
+        Path file = write(dir, "{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n{\"id\":5}");
+
+        List<String> batches = read(file, HttpBody.NDJSON, 20);
+
+        assertEquals(3, batches.size());
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", batches.get(0));
+        assertEquals("{\"id\":3}\n{\"id\":4}\n", batches.get(1));
+        assertEquals("{\"id\":5}", batches.get(2));
+    }
+
+    @Test
+    void longLineMakesItsOwnBatch(@TempDir Path dir) throws Exception {
+        Path file =
+                write(
+                        dir,
+                        "{\"id\":1}\n{\"id\":2,\"text\":\"abcdefghijklmnopqrstuvwxyz\"}\n{\"id\":3}\n");
+
+        List<String> batches = read(file, HttpBody.NDJSON, 10);
+
+        assertEquals(3, batches.size());
+        assertEquals("{\"id\":1}\n", batches.get(0));
+        assertEquals("{\"id\":2,\"text\":\"abcdefghijklmnopqrstuvwxyz\"}\n", batches.get(1));
+        assertEquals("{\"id\":3}\n", batches.get(2));
+    }
+
+    @Test
+    void repeatCsvHeader(@TempDir Path dir) throws Exception {
+        Path file = write(dir, "id,title\n1,Café\n2,b\n3,c\n");
+
+        List<String> batches = read(file, HttpBody.CSV, 10);
+
+        assertEquals(2, batches.size());
+        assertEquals("id,title\n1,Café\n", batches.get(0));
+        assertEquals("id,title\n2,b\n3,c\n", batches.get(1));
+        assertEquals(list("id,title\n1,Café\n2,b\n3,c\n"), read(file, HttpBody.CSV, 100));
+    }
+
+    @Test
+    void keepQuotedCsvLineBreaks(@TempDir Path dir) throws Exception {
+        Path file = write(dir, "id,\"ti\ntle\"\n1,\"a\n\"\"b\"\"\nc\"\n2,d\n");
+
+        List<String> batches = read(file, HttpBody.CSV, 12);
+
+        assertEquals(2, batches.size());
+        assertEquals("id,\"ti\ntle\"\n1,\"a\n\"\"b\"\"\nc\"\n", batches.get(0));
+        assertEquals("id,\"ti\ntle\"\n2,d\n", batches.get(1));
+    }
+
+    @Test
+    void throttleFileBatches(@TempDir Path dir) throws Exception {
+        Path file = write(dir, "{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+        TaskRecorder recorder = new TaskRecorder();
+        Index index = new Index();
+        index.uid = "movies";
+        index.documents = mock(Documents.class);
+        index.tasksHandler = mock(TasksHandler.class);
+        when(index.documents.addDocuments(eq("movies"), any(HttpBody.class), eq("id")))
+                .thenAnswer(invocation -> recorder.record(invocation.getArgument(1)));
+        when(index.tasksHandler.getTasks(any(TasksQuery.class)))
+                .thenAnswer(invocation -> recorder.tasks(invocation.getArgument(0)));
+
+        TaskInfo[] tasks =
+                index.addDocumentsFromFile(
+                        file,
+                        HttpBody.NDJSON,
+                        new BatchOptions().setMaxBatchBytes(10).setMaxQueuedTasks(1),
+                        "id");
+
+        assertEquals(3, tasks.length);
+        assertEquals(list("{\"id\":1}\n", "{\"id\":2}\n", "{\"id\":3}\n"), recorder.getSent());
+        // the empty queue counted before the first batch is reused for the second one
+        assertEquals(2, recorder.getQueries().size());
+        assertEquals(
+                "?limit=2&status=enqueued,processing&indexUid=movies",
+                recorder.getQueries().get(0));
+    }
+
+    @Test
+    void rejectJson(@TempDir Path dir) throws Exception {
+        Path file = write(dir, "[]");
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MappedFileBatcher(file, HttpBody.JSON, 10));
+    }
+
+    private static List<String> list(String... batches) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, batches);
+        return list;
+    }
+
+    private static Path write(Path dir, String content) throws Exception {
+        return Files.write(dir.resolve("documents"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> read(Path file, String contentType, int batchBytes)
+            throws Exception {
+        List<String> batches = new ArrayList<>();
+        try (MappedFileBatcher batcher = new MappedFileBatcher(file, contentType, batchBytes)) {
+            for (HttpBody batch = batcher.next(); batch != null; batch = batcher.next()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                batch.writeTo(out);
+                assertEquals(out.size(), batch.getContentLength());
+                batches.add(new String(out.toByteArray(), StandardCharsets.UTF_8));
+            }
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,82 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.APIError;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.model.DocumentsByIds;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MultiGetTest {
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Test
+    void resultsAlignWithRequestedIds() throws Exception {
+        DocumentsByIds<String> documents =
+                new MultiGet<>(this::fetch, 3, 5000)
+                        .run(Arrays.asList("9", "1", "missing", "5", "1", "3", "7"));
+
+        assertEquals(
+                Arrays.asList("doc9", "doc1", null, "doc5", "doc1", "doc3", "doc7"),
+                documents.getResults());
+        assertEquals(Arrays.asList("missing"), documents.getMissing());
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    void deadlineCoversAllFetches() {
+        MultiGet<String> multiGet =
+                new MultiGet<>(
+                        id -> {
+                            try {
+                                Thread.sleep(200);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return id;
+                        },
+                        1,
+                        300);
+
+        assertThrows(
+                MeilisearchTimeoutException.class,
+                () -> multiGet.run(Arrays.asList("1", "2", "3", "4")));
+    }
+
+    @Test
+    void failureIsRethrown() {
+        MultiGet<String> multiGet =
+                new MultiGet<>(
+                        id -> {
+                            throw new MeilisearchCommunicationException("connection lost");
+                        },
+                        2,
+                        5000);
+
+        assertThrows(
+                MeilisearchCommunicationException.class, () -> multiGet.run(Arrays.asList("1")));
+    }
+
+    private String fetch(String id) throws MeilisearchApiException {
+        int now = running.incrementAndGet();
+        maxRunning.accumulateAndGet(now, Math::max);
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        if (id.equals("missing")) {
+            throw new MeilisearchApiException(
+                    new APIError(
+                            "Document not found", "document_not_found", "invalid_request", ""));
+        }
+        return "doc" + id;
+    }
+}
@@ -0,0 +1,86 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PartialUpdateTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final GsonJsonHandler jsonHandler = recorder.getJsonHandler();
+    private final Documents documents = mock(Documents.class);
+    private final List<String> sent = recorder.getSent();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(documents.updateDocuments(eq("products"), any(HttpBody.class), eq("sku")))
+                .thenAnswer(invocation -> recorder.record(invocation.getArgument(1)));
+    }
+
+    @Test
+    void sendOnlyChangedFields() throws Exception {
+        PartialUpdate update =
+                new PartialUpdate(documents, recorder::tasks, "products", "sku", jsonHandler)
+                        .set("a1", "price", 1299)
+                        .set("b2", "inStock", false)
+                        .set("a1", "label", "Sale \"now\"")
+                        .set("a1", "price", 999)
+                        .set("b2", "tags", Arrays.asList("x", "y"))
+                        .set("c3", "note", (Object) null);
+
+        assertEquals(3, update.size());
+        assertEquals(1, update.send().length);
+        assertEquals(
+                Arrays.asList(
+                        "[{\"sku\":\"a1\",\"price\":999,\"label\":\"Sale \\\"now\\\"\"},"
+                                + "{\"sku\":\"b2\",\"inStock\":false,\"tags\":[\"x\",\"y\"]},"
+                                + "{\"sku\":\"c3\",\"note\":null}]"),
+                sent);
+        assertEquals(0, update.size());
+    }
+
+    @Test
+    void sendInBatches() throws Exception {
+        PartialUpdate update =
+                new PartialUpdate(documents, recorder::tasks, "products", "sku", jsonHandler);
+        for (int i = 0; i < 5; i++) {
+            update.set("id" + i, "price", i);
+        }
+
+        assertEquals(3, update.send(new BatchOptions().setBatchSize(2)).length);
+        assertEquals("[{\"sku\":\"id4\",\"price\":4}]", sent.get(2));
+        assertTrue(recorder.getQueries().isEmpty());
+    }
+
+    @Test
+    void checkTaskQueueWhenLimited() throws Exception {
+        PartialUpdate update =
+                new PartialUpdate(documents, recorder::tasks, "products", "sku", jsonHandler);
+        for (int i = 0; i < 5; i++) {
+            update.set("id" + i, "price", i);
+        }
+
+        update.send(new BatchOptions().setBatchSize(2).setMaxQueuedTasks(1));
+
+        // listed again once the second batch makes the estimate go above 1
+        assertEquals(2, recorder.getQueries().size());
+    }
+
+    @Test
+    void primaryKeyCannotBeSet() {
+        PartialUpdate update =
+                new PartialUpdate(documents, recorder::tasks, "products", "sku", jsonHandler);
+
+        assertThrows(IllegalArgumentException.class, () -> update.set("a1", "sku", "b2"));
+    }
+}
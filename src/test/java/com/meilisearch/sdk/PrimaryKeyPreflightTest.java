@@ -0,0 +1,150 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.JsonDocumentStream;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.utils.Movie;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PrimaryKeyPreflightTest {
+
+    private final List<String> rejected = new ArrayList<>();
+
+    @Test
+    void rejectMissingAndInvalidIdentifiers() throws Exception {
+        DocumentBatcher batcher =
+                batcher(
+                        "[{\"id\":1},{\"title\":\"no id\"},{\"id\":null},{\"id\":\"a b\"},"
+                                + "{\"id\":1.5},{\"id\":true},{\"id\":\"\"},{\"id\":[1]},"
+                                + "{\"title\":\"x\",\"i\\u0064\":\"escaped-name_2\"},"
+                                + "{\"nested\":{\"id\":3},\"id\":-4}]",
+                        new BatchOptions());
+
+        assertEquals(
+                "[{\"id\":1},{\"title\":\"x\",\"i\\u0064\":\"escaped-name_2\"},"
+                        + "{\"nested\":{\"id\":3},\"id\":-4}]",
+                string(batcher.next()));
+        assertNull(batcher.next());
+        assertEquals(
+                Arrays.asList(
+                        "MISSING_ID {\"title\":\"no id\"}",
+                        "MISSING_ID {\"id\":null}",
+                        "INVALID_ID {\"id\":\"a b\"}",
+                        "INVALID_ID {\"id\":1.5}",
+                        "INVALID_ID {\"id\":true}",
+                        "INVALID_ID {\"id\":\"\"}",
+                        "INVALID_ID {\"id\":[1]}"),
+                rejected);
+    }
+
+    @Test
+    void sendLastDuplicateWithinBatch() throws Exception {
+        DocumentBatcher batcher =
+                batcher(
+                        "[{\"id\":1,\"v\":1},{\"id\":\"1\",\"v\":2},{\"id\":2},"
+                                + "{\"id\":3},{\"id\":3,\"v\":3},{\"id\":2,\"v\":3}]",
+                        new BatchOptions().setBatchSize(2));
+
+        assertEquals("[{\"id\":\"1\",\"v\":2},{\"id\":2}]", string(batcher.next()));
+        assertEquals("[{\"id\":3,\"v\":3},{\"id\":2,\"v\":3}]", string(batcher.next()));
+        assertNull(batcher.next());
+        assertEquals(
+                Arrays.asList("DUPLICATE_ID {\"id\":1,\"v\":1}", "DUPLICATE_ID {\"id\":3}"),
+                rejected);
+    }
+
+    @Test
+    void duplicatesDoNotCountTowardsBatchBytes() throws Exception {
+        DocumentBatcher batcher =
+                batcher(
+                        "[{\"id\":1},{\"id\":1},{\"id\":1},{\"id\":2}]",
+                        new BatchOptions().setMaxBatchBytes(19));
+
+        assertEquals("[{\"id\":1},{\"id\":2}]", string(batcher.next()));
+        assertNull(batcher.next());
+        assertEquals(2, rejected.size());
+    }
+
+    @Test
+    void sendEveryUpdateOfAnIdentifier() throws Exception {
+        DocumentBatcher batcher =
+                batcher(
+                        "[{\"id\":1,\"a\":1},{\"id\":\"1\",\"b\":2},{\"title\":\"no id\"}]",
+                        new BatchOptions(),
+                        false);
+
+        assertEquals("[{\"id\":1,\"a\":1},{\"id\":\"1\",\"b\":2}]", string(batcher.next()));
+        assertNull(batcher.next());
+        assertEquals(Arrays.asList("MISSING_ID {\"title\":\"no id\"}"), rejected);
+    }
+
+    @Test
+    void updateDocumentsKeepsDuplicates() throws Exception {
+        TaskRecorder recorder = new TaskRecorder();
+        Index index = new Index();
+        index.uid = "movies";
+        index.documents = mock(Documents.class);
+        when(index.documents.updateDocuments(eq("movies"), any(HttpBody.class), eq("id")))
+                .thenAnswer(invocation -> recorder.record(invocation.getArgument(1)));
+
+        index.updateDocuments(
+                Arrays.asList(new Movie("1", "a"), new Movie("1", "b")).iterator(),
+                new BatchOptions()
+                        .setDeadLetterSink((document, reason) -> rejected.add(reason.name())),
+                "id");
+
+        assertEquals(
+                Arrays.asList("[{\"id\":\"1\",\"title\":\"a\"},{\"id\":\"1\",\"title\":\"b\"}]"),
+                recorder.getSent());
+        assertTrue(rejected.isEmpty());
+    }
+
+    @Test
+    void sinkCanStopTheUpload() {
+        DocumentBatcher batcher = batcher("[{\"id\":1},{\"id\":\"Ω\"}]", new BatchOptions());
+        batcher.setPreflight(
+                new PrimaryKeyPreflight(
+                        "id",
+                        (document, reason) -> {
+                            throw new MeilisearchException("Invalid document");
+                        },
+                        true));
+
+        assertThrows(MeilisearchException.class, batcher::next);
+    }
+
+    private DocumentBatcher batcher(String json, BatchOptions options) {
+        return batcher(json, options, true);
+    }
+
+    private DocumentBatcher batcher(String json, BatchOptions options, boolean replace) {
+        DocumentBatcher batcher =
+                new DocumentBatcher(new JsonDocumentStream(new StringReader(json)), options);
+        batcher.setPreflight(
+                new PrimaryKeyPreflight(
+                        "id",
+                        (document, reason) ->
+                                rejected.add(
+                                        reason
+                                                + " "
+                                                + new String(document, StandardCharsets.UTF_8)),
+                        replace));
+        return batcher;
+    }
+
+    private static String string(byte[] batch) {
+        return new String(batch, StandardCharsets.UTF_8);
+    }
+}
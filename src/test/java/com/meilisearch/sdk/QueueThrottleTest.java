@@ -0,0 +1,81 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class QueueThrottleTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final List<String> queries = new ArrayList<>();
+    private int queued;
+
+    @Test
+    void sendWhileQueueIsShort() throws Exception {
+        QueueThrottle throttle = throttle(4);
+        queued = 4;
+        throttle.sender(recorder::send).send(new byte[0]);
+
+        assertEquals(1, recorder.getSent().size());
+        assertEquals(0, throttle.getPauses());
+        assertEquals("?limit=5&status=enqueued,processing&indexUid=movies", queries.get(0));
+    }
+
+    @Test
+    void pauseUntilHalfOfQueueIsProcessed() throws Exception {
+        QueueThrottle throttle = throttle(4);
+        queued = 7;
+        throttle.sender(recorder::send).send(new byte[0]);
+
+        assertEquals(1, recorder.getSent().size());
+        assertEquals(1, throttle.getPauses());
+        // 5 queued, then 5, 3 and 1
+        assertEquals(4, queries.size());
+    }
+
+    @Test
+    void reuseCountWhileBelowLimit() throws Exception {
+        QueueThrottle throttle = throttle(4);
+        queued = 1;
+        BatchUploader.Sender sender = throttle.sender(recorder::send);
+        for (int i = 0; i < 5; i++) {
+            sender.send(new byte[0]);
+        }
+
+        assertEquals(5, recorder.getSent().size());
+        assertEquals(0, throttle.getPauses());
+        // 1 counted then 2, 3, 4 and 5 estimated, listed again above 4
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void limitMustBePositive() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new QueueThrottle(this::tasks, "movies", new BatchOptions()));
+    }
+
+    private QueueThrottle throttle(int maxQueuedTasks) {
+        return new QueueThrottle(
+                this::tasks, "movies", new BatchOptions().setMaxQueuedTasks(maxQueuedTasks));
+    }
+
+    /** Lists the queued tasks, two of them being processed between two calls */
+    private TasksResults tasks(TasksQuery query) throws MeilisearchException {
+        queries.add(query.toQuery());
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        int count = Math.min(queued, query.getLimit());
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"uid\":").append(i).append('}');
+        }
+        queued = Math.max(0, queued - 2);
+        return recorder.getJsonHandler().decode(json.append("]}").toString(), TasksResults.class);
+    }
+}
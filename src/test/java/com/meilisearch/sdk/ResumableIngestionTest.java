@@ -0,0 +1,129 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResumableIngestionTest {
+
+    private static final String NDJSON =
+            "{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n{\"id\":5}\n";
+    private static final String ARRAY =
+            "[{\"id\":1}, {\"id\":2}, {\"id\":3}, {\"id\":4}, {\"id\":5}]";
+
+    @TempDir Path directory;
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final Map<Integer, String> statuses = new HashMap<>();
+    private final List<String> sent = new ArrayList<>();
+    private String initialStatus = "enqueued";
+    private int crashAfter = Integer.MAX_VALUE;
+
+    @Test
+    void resumeFromFailedBatch() throws Exception {
+        Path documents = write(NDJSON);
+        crashAfter = 2;
+        assertThrows(MeilisearchCommunicationException.class, () -> run(documents));
+        assertEquals(2, sent.size());
+
+        statuses.put(0, "succeeded");
+        statuses.put(1, "failed");
+        sent.clear();
+        crashAfter = Integer.MAX_VALUE;
+        TaskInfo[] tasks = run(documents);
+
+        assertEquals(2, tasks.length);
+        assertEquals("[{\"id\":3},{\"id\":4}]", sent.get(0));
+        assertEquals("[{\"id\":5}]", sent.get(1));
+    }
+
+    @Test
+    void pendingBatchesAreNotSentAgain() throws Exception {
+        Path documents = write(ARRAY);
+        crashAfter = 2;
+        assertThrows(MeilisearchCommunicationException.class, () -> run(documents));
+
+        statuses.put(1, "processing");
+        sent.clear();
+        crashAfter = Integer.MAX_VALUE;
+        run(documents);
+
+        assertEquals(1, sent.size());
+        assertEquals("[{\"id\":5}]", sent.get(0));
+    }
+
+    @Test
+    void completedRunSendsNothing() throws Exception {
+        Path documents = write(NDJSON);
+        initialStatus = "succeeded";
+        assertEquals(3, run(documents).length);
+
+        sent.clear();
+        assertEquals(0, run(documents).length);
+        assertTrue(sent.isEmpty());
+        assertEquals(
+                "confirmed " + (NDJSON.length() - 1) + " 3 ndjson",
+                new String(
+                                Files.readAllBytes(directory.resolve("checkpoint")),
+                                StandardCharsets.UTF_8)
+                        .trim());
+    }
+
+    @Test
+    void failedTaskStopsRun() throws Exception {
+        Path documents = write(NDJSON);
+        initialStatus = "failed";
+
+        assertThrows(MeilisearchException.class, () -> run(documents));
+        assertEquals(1, sent.size());
+
+        initialStatus = "succeeded";
+        sent.clear();
+        run(documents);
+        assertEquals(3, sent.size());
+        assertEquals("[{\"id\":1},{\"id\":2}]", sent.get(0));
+    }
+
+    private TaskInfo[] run(Path documents) throws MeilisearchException {
+        return new ResumableIngestion(
+                        this::send,
+                        this::task,
+                        directory.resolve("checkpoint"),
+                        new BatchOptions().setBatchSize(2))
+                .run(documents);
+    }
+
+    private TaskInfo send(byte[] batch) throws MeilisearchException {
+        if (sent.size() >= crashAfter) {
+            throw new MeilisearchCommunicationException("connection lost");
+        }
+        int taskUid = statuses.size();
+        statuses.put(taskUid, initialStatus);
+        sent.add(new String(batch, StandardCharsets.UTF_8));
+        return recorder.taskInfo(taskUid);
+    }
+
+    private Task task(int taskUid) throws MeilisearchException {
+        return recorder.task(taskUid, statuses.get(taskUid));
+    }
+
+    private Path write(String content) throws Exception {
+        Path documents = directory.resolve("documents.json");
+        Files.write(documents, content.getBytes(StandardCharsets.UTF_8));
+        return documents;
+    }
+}
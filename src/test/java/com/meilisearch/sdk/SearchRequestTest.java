@@ -1,7 +1,9 @@
 package com.meilisearch.sdk;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class SearchRequestTest {
@@ -10,9 +12,7 @@ class SearchRequestTest {
     void toStringSimpleQuery() {
         SearchRequest classToTest = new SearchRequest("This is a Test");
 
-        assertEquals(
-                "{\"q\":\"This is a Test\",\"attributesToRetrieve\":[\"*\"],\"offset\":0,\"showMatchesPosition\":false,\"limit\":20,\"cropLength\":200}",
-                classToTest.toString());
+        assertEquals("{\"q\":\"This is a Test\",\"cropLength\":200}", classToTest.toString());
     }
 
     @Test
@@ -20,7 +20,7 @@ class SearchRequestTest {
         SearchRequest classToTest = new SearchRequest("This is a Test", 200);
 
         assertEquals(
-                "{\"q\":\"This is a Test\",\"attributesToRetrieve\":[\"*\"],\"offset\":200,\"showMatchesPosition\":false,\"limit\":20,\"cropLength\":200}",
+                "{\"q\":\"This is a Test\",\"offset\":200,\"cropLength\":200}",
                 classToTest.toString());
     }
 
@@ -29,7 +29,7 @@ class SearchRequestTest {
         SearchRequest classToTest = new SearchRequest("This is a Test", 200, 900);
 
         assertEquals(
-                "{\"q\":\"This is a Test\",\"attributesToRetrieve\":[\"*\"],\"offset\":200,\"showMatchesPosition\":false,\"limit\":900,\"cropLength\":200}",
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"cropLength\":200}",
                 classToTest.toString());
     }
 
@@ -39,7 +39,7 @@ class SearchRequestTest {
                 new SearchRequest("This is a Test", 200, 900, new String[] {"bubble"});
 
         assertEquals(
-                "{\"q\":\"This is a Test\",\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"showMatchesPosition\":false,\"limit\":900,\"cropLength\":200}",
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"],\"cropLength\":200}",
                 classToTest.toString());
     }
 
@@ -117,7 +117,27 @@ class SearchRequestTest {
         assertEquals("sort", classToTest.getSort()[0]);
         assertEquals(900, classToTest.getCropLength());
         assertEquals(
-                "{\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"cropMarker\":\"123\",\"sort\":[\"sort\"],\"highlightPreTag\":\"abc\",\"facets\":[\"facets\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"q\":\"This is a Test\",\"showMatchesPosition\":true,\"limit\":900,\"cropLength\":900,\"highlightPostTag\":\"zyx\",\"attributesToHighlight\":[\"highlight\"],\"attributesToCrop\":[\"crop\"]}",
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"],\"attributesToCrop\":[\"crop\"],\"cropLength\":900,\"cropMarker\":\"123\",\"attributesToHighlight\":[\"highlight\"],\"highlightPreTag\":\"abc\",\"highlightPostTag\":\"zyx\",\"showMatchesPosition\":true,\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"facets\":[\"facets\"],\"sort\":[\"sort\"]}",
+                classToTest.toString());
+    }
+
+    @Test
+    void toStringEmptyRequest() {
+        SearchRequest classToTest = new SearchRequest().setLimit(20).setCropLength(10);
+
+        assertEquals("{}", classToTest.toString());
+    }
+
+    @Test
+    void toStringEscapesStrings() {
+        SearchRequest classToTest =
+                new SearchRequest("\"quoted\" \\ caf\u00e9 \ud83d\ude00\n\u0001")
+                        .setFilter(new String[] {"title = \"Ad Astra\""});
+
+        assertEquals(
+                "{\"q\":\"\\\"quoted\\\" \\\\ caf\u00e9 \ud83d\ude00\\n\\u0001\",\"cropLength\":200,\"filter\":[\"title = \\\"Ad Astra\\\"\"]}",
                 classToTest.toString());
+        assertArrayEquals(
+                classToTest.toString().getBytes(StandardCharsets.UTF_8), classToTest.toJsonBytes());
     }
 }
@@ -0,0 +1,54 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.meilisearch.sdk.http.request.HttpBody;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class SearchTemplateTest {
+
+    @Test
+    void sameBytesAsSearchRequest() {
+        SearchRequest request =
+                new SearchRequest("ignored")
+                        .setAttributesToRetrieve(new String[] {"id", "title"})
+                        .setFilter(new String[] {"genres = Drama"})
+                        .setFacets(new String[] {"genres"})
+                        .setSort(new String[] {"id:asc"})
+                        .setHighlightPreTag("<em>");
+        SearchTemplate classToTest = new SearchTemplate(request);
+
+        request.setQ("café \"noir\"").setOffset(40).setLimit(5);
+        assertArrayEquals(request.toJsonBytes(), classToTest.toJsonBytes("café \"noir\"", 40, 5));
+
+        request.setQ(null).setOffset(0).setLimit(20);
+        assertArrayEquals(request.toJsonBytes(), classToTest.toJsonBytes(null, 0, 20));
+    }
+
+    @Test
+    void changesAfterCreationAreIgnored() {
+        SearchRequest request = new SearchRequest("a");
+        SearchTemplate classToTest = new SearchTemplate(request);
+        request.setSort(new String[] {"id:asc"});
+
+        assertEquals(
+                "{\"q\":\"b\",\"limit\":3,\"cropLength\":200}",
+                new String(classToTest.toJsonBytes("b", 0, 3), StandardCharsets.UTF_8));
+        assertEquals(0, classToTest.getOffset());
+        assertEquals(20, classToTest.getLimit());
+    }
+
+    @Test
+    void emptyTemplate() {
+        SearchTemplate classToTest =
+                new SearchTemplate(new SearchRequest().setLimit(20).setCropLength(10));
+        HttpBody body = classToTest.toBody(null, 0, 20);
+
+        assertEquals("{}", new String(classToTest.toJsonBytes(null, 0, 20)));
+        assertEquals(2, body.getContentLength());
+        assertEquals("{\"q\":\"x\"}", new String(classToTest.toJsonBytes("x", 0, 20)));
+        assertEquals(9, classToTest.toBody("x", 0, 20).getContentLength());
+    }
+}
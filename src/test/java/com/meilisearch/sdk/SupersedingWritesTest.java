@@ -0,0 +1,107 @@
+package com.meilisearch.sdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.Movie;
+import com.meilisearch.sdk.utils.TaskRecorder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+class SupersedingWritesTest {
+
+    private final TaskRecorder recorder = new TaskRecorder();
+    private final List<String> canceled = new ArrayList<>();
+    private final Index movies = index("movies");
+    private final Index books = index("books");
+    private final SupersedingWrites writes =
+            new SupersedingWrites(
+                    query -> {
+                        canceled.add(query.toQuery());
+                        return task(100);
+                    },
+                    recorder::tasks);
+    private int nextTaskUid;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (Index index : new Index[] {movies, books}) {
+            when(index.updateDocuments(
+                            ArgumentMatchers.<Iterator<Movie>>any(),
+                            any(BatchOptions.class),
+                            any()))
+                    .thenAnswer(invocation -> new TaskInfo[] {task(++nextTaskUid)});
+            when(index.addDocuments(
+                            ArgumentMatchers.<Iterator<Movie>>any(),
+                            any(BatchOptions.class),
+                            any()))
+                    .thenAnswer(
+                            invocation ->
+                                    new TaskInfo[] {task(++nextTaskUid), task(++nextTaskUid)});
+        }
+    }
+
+    @Test
+    void replacementCancelsEarlierEnqueuedUpdates() throws Exception {
+        writes.updateDocuments(movies, documents(), new BatchOptions());
+        writes.updateDocuments(books, documents(), new BatchOptions());
+        writes.updateDocuments(movies, documents(), new BatchOptions());
+
+        writes.replaceDocuments(movies, documents(), new BatchOptions());
+
+        assertEquals(
+                Collections.singletonList("?uid=1,3&status=enqueued&indexUid=movies"), canceled);
+        assertEquals(2, writes.getTracked("movies"));
+        assertEquals(1, writes.getTracked("books"));
+    }
+
+    @Test
+    void laterReplacementCancelsEarlierReplacement() throws Exception {
+        writes.replaceDocuments(movies, documents(), new BatchOptions());
+        assertTrue(canceled.isEmpty());
+
+        writes.replaceDocuments(movies, documents(), new BatchOptions());
+        assertEquals(
+                Collections.singletonList("?uid=1,2&status=enqueued&indexUid=movies"), canceled);
+    }
+
+    @Test
+    void dropTasksNoLongerEnqueued() throws Exception {
+        for (int i = 0; i < 999; i++) {
+            writes.updateDocuments(movies, documents(), new BatchOptions());
+        }
+        assertEquals(999, writes.getTracked("movies"));
+        assertTrue(recorder.getQueries().isEmpty());
+
+        writes.updateDocuments(movies, documents(), new BatchOptions());
+
+        assertEquals(0, writes.getTracked("movies"));
+        assertEquals(
+                Collections.singletonList("?limit=1000&from=1000&status=enqueued&indexUid=movies"),
+                recorder.getQueries());
+    }
+
+    private Index index(String uid) {
+        Index index = mock(Index.class);
+        when(index.getUid()).thenReturn(uid);
+        when(index.getPrimaryKey()).thenReturn("id");
+        return index;
+    }
+
+    private Iterator<Movie> documents() {
+        return Collections.singletonList(new Movie("1", "a")).iterator();
+    }
+
+    private TaskInfo task(int taskUid) throws MeilisearchException {
+        return recorder.taskInfo(taskUid);
+    }
+}
@@ -1,14 +1,20 @@
 package com.meilisearch.sdk.http;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.meilisearch.sdk.http.request.BasicRequest;
+import com.meilisearch.sdk.http.request.HttpBody;
 import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +57,29 @@ class BasicRequestTest {
         assertEquals(httpRequest.getPath(), "/");
         assertEquals(httpRequest.getMethod(), HttpMethod.GET);
     }
+
+    @Test
+    void contentBody() {
+        HttpBody body = HttpBody.json("{}".getBytes());
+        HttpRequest httpRequest =
+                request.create(HttpMethod.POST, "/", Collections.emptyMap(), body);
+
+        assertTrue(httpRequest.hasContent());
+        assertNull(httpRequest.getContent());
+        assertSame(body, httpRequest.getBody());
+        assertEquals(httpRequest.getMethod(), HttpMethod.POST);
+        assertArrayEquals("{}".getBytes(), httpRequest.getContentAsBytes());
+    }
+
+    @Test
+    void contentBodyFromReader() {
+        HttpBody body = HttpBody.of(new StringReader("id,title\n1,Café\n"), HttpBody.CSV);
+        HttpRequest httpRequest =
+                request.create(HttpMethod.POST, "/", Collections.emptyMap(), body);
+
+        assertTrue(httpRequest.hasContent());
+        assertEquals(
+                "id,title\n1,Café\n",
+                new String(httpRequest.getContentAsBytes(), StandardCharsets.UTF_8));
+    }
 }
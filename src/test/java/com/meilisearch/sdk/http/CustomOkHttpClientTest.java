@@ -9,6 +9,7 @@ import static org.mockito.Mockito.*;
 
 import com.meilisearch.sdk.Config;
 import com.meilisearch.sdk.Version;
+import com.meilisearch.sdk.http.request.HttpBody;
 import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
 import com.meilisearch.sdk.http.response.HttpResponse;
@@ -102,6 +103,24 @@ class CustomOkHttpClientTest {
                 equalTo(this.config.getHostUrl() + request.getPath()));
     }
 
+    @Test
+    void executeWithBodyReader() throws Exception {
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), "some body");
+        String content =
+                classToTest.execute(
+                        request,
+                        (statusCode, body) -> {
+                            assertThat(statusCode, equalTo(200));
+                            return new BufferedReader(new InputStreamReader(body))
+                                    .lines()
+                                    .collect(Collectors.joining());
+                        });
+
+        assertThat(content, equalTo("some body"));
+        assertThat(requestQueue.poll(), notNullValue());
+    }
+
     @Test
     void post() throws Exception {
         HttpRequest request =
@@ -138,6 +157,22 @@ class CustomOkHttpClientTest {
                 equalTo(this.config.getHostUrl() + request.getPath()));
     }
 
+    @Test
+    void postWithHttpBody() throws Exception {
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), null);
+        request.setBody(HttpBody.of("a,b\n1,2".getBytes(), "text/csv"));
+        HttpResponse<Object> response = classToTest.post(request);
+
+        assertThat(response.getStatusCode(), equalTo(200));
+
+        Request expectedRequest = requestQueue.poll();
+        assertThat(expectedRequest, notNullValue());
+        assertThat(readBody(expectedRequest.body()), equalTo("a,b1,2"));
+        assertThat(expectedRequest.body().contentType().toString(), equalTo("text/csv"));
+        assertThat(expectedRequest.body().contentLength(), equalTo(7L));
+    }
+
     @Test
     void patch() throws Exception {
         HttpRequest request =
@@ -0,0 +1,71 @@
+package com.meilisearch.sdk.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.meilisearch.sdk.http.request.HttpBody;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HttpBodyTest {
+
+    private static final String NDJSON = "{\"id\":1,\"title\":\"Café\"}\n{\"id\":2}\n";
+
+    @Test
+    void ofString() throws Exception {
+        HttpBody body = HttpBody.of(NDJSON, HttpBody.NDJSON);
+
+        assertEquals("application/x-ndjson", body.getContentType());
+        assertEquals(NDJSON.getBytes(StandardCharsets.UTF_8).length, body.getContentLength());
+        assertTrue(body.isRepeatable());
+        assertEquals(NDJSON, write(body));
+    }
+
+    @Test
+    void ofByteBuffers() throws Exception {
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        direct.put("{\"id\":2}\n".getBytes(StandardCharsets.UTF_8)).flip();
+        ByteBuffer heap = ByteBuffer.wrap("xx{\"id\":1}\n".getBytes(StandardCharsets.UTF_8), 2, 9);
+        HttpBody body = HttpBody.ofBuffers(HttpBody.NDJSON, heap, direct);
+
+        assertEquals(18, body.getContentLength());
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", write(body));
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", write(body));
+    }
+
+    @Test
+    void ofPath(@TempDir Path dir) throws Exception {
+        Path file =
+                Files.write(dir.resolve("movies.ndjson"), NDJSON.getBytes(StandardCharsets.UTF_8));
+        HttpBody body = HttpBody.of(file, HttpBody.NDJSON);
+
+        assertEquals(Files.size(file), body.getContentLength());
+        assertTrue(body.isRepeatable());
+        assertEquals(NDJSON, write(body));
+        assertEquals(NDJSON, write(body));
+    }
+
+    @Test
+    void ofReader() throws Exception {
+        String csv = "id,title\n1,Café\n";
+        HttpBody body = HttpBody.of(new StringReader(csv), HttpBody.CSV);
+
+        assertEquals("text/csv", body.getContentType());
+        assertEquals(-1, body.getContentLength());
+        assertFalse(body.isRepeatable());
+        assertEquals(csv, write(body));
+    }
+
+    private static String write(HttpBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,193 @@
+package com.meilisearch.sdk.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonDocumentStreamTest {
+
+    private static final String FIRST =
+            "{\"id\":1,\"title\":\"a } \\\" ] {\",\"tags\":[{\"x\":[]}]}";
+    private static final String SECOND = "{\"id\":2,\"title\":\"Café \\\\\"}";
+
+    @Test
+    void jsonArray() throws Exception {
+        String json = " [\n" + FIRST + " ,\n\t" + SECOND + "\n] \n";
+
+        assertEquals(list(FIRST, SECOND), read(new JsonDocumentStream(new StringReader(json))));
+    }
+
+    @Test
+    void ndjson() throws Exception {
+        String ndjson = FIRST + "\n" + SECOND + "\r\n\n";
+
+        assertEquals(list(FIRST, SECOND), read(new JsonDocumentStream(new StringReader(ndjson))));
+    }
+
+    @Test
+    void empty() throws Exception {
+        assertEquals(list(), read(new JsonDocumentStream(new StringReader(" [ ] "))));
+        assertEquals(list(), read(new JsonDocumentStream(new StringReader(""))));
+    }
+
+    @Test
+    void documentsSpanningReads() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String document = "{\"id\":" + i + ",\"text\":\"" + i + " \\\\ \\\" é 🎬\"}";
+            expected.add(document);
+            json.append(i == 0 ? "" : ",").append(document);
+        }
+        byte[] bytes = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected, read(new JsonDocumentStream(new TrickleStream(bytes, 7))));
+        assertEquals(expected, read(new JsonDocumentStream(new StringReader(json.toString()))));
+    }
+
+    @Test
+    void peekSizeDoesNotConsume() throws Exception {
+        JsonDocumentStream stream = stream("[" + FIRST + "," + SECOND + "]");
+        JsonByteWriter writer = new JsonByteWriter();
+
+        assertEquals(FIRST.length(), stream.peekSize());
+        assertEquals(FIRST.length(), stream.peekSize());
+        assertTrue(stream.next(writer));
+        assertEquals(FIRST, writer.toString());
+        assertEquals(SECOND.getBytes(StandardCharsets.UTF_8).length, stream.peekSize());
+        assertTrue(stream.next(writer));
+        assertEquals(-1, stream.peekSize());
+        assertFalse(stream.next(writer));
+    }
+
+    @Test
+    void resumeAfterOffset() throws Exception {
+        for (String json :
+                new String[] {
+                    "[" + FIRST + " , " + SECOND + " ,{\"id\":3}]",
+                    FIRST + "\n" + SECOND + "\n{\"id\":3}\n"
+                }) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            JsonDocumentStream stream = new JsonDocumentStream(new ByteArrayInputStream(bytes));
+            JsonByteWriter writer = new JsonByteWriter();
+            assertTrue(stream.next(writer));
+            assertTrue(stream.peekSize() > 0);
+            long offset = stream.getOffset();
+
+            ByteArrayInputStream rest =
+                    new ByteArrayInputStream(bytes, (int) offset, bytes.length - (int) offset);
+            assertEquals(
+                    list(SECOND, "{\"id\":3}"),
+                    read(JsonDocumentStream.resume(rest, offset, stream.isArray())));
+        }
+    }
+
+    @Test
+    void invalidInput() {
+        assertThrows(JsonDecodingException.class, () -> read(stream("[" + FIRST + " " + SECOND)));
+        assertThrows(JsonDecodingException.class, () -> read(stream("[" + FIRST + ",")));
+        assertThrows(JsonDecodingException.class, () -> read(stream("[1,2]")));
+        assertThrows(JsonDecodingException.class, () -> read(stream("{\"id\":1")));
+        assertThrows(JsonDecodingException.class, () -> read(stream("[" + FIRST + "] x")));
+    }
+
+    @Test
+    void arrayOfField() throws Exception {
+        String page =
+                "{\"offset\":0,\"meta\":{\"a\":[1,\"]\"]},\"na\\\"me\":\"x\", \"results\" : ["
+                        + FIRST
+                        + ","
+                        + SECOND
+                        + "],\"limit\":20,\"total\":2}";
+        byte[] bytes = page.getBytes(StandardCharsets.UTF_8);
+
+        JsonDocumentStream stream =
+                JsonDocumentStream.ofField(new TrickleStream(bytes, 3), "results");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (stream.next(out)) {
+            out.write('\n');
+        }
+
+        assertEquals(
+                FIRST + "\n" + SECOND + "\n",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(
+                list(),
+                read(JsonDocumentStream.ofField(new ByteArrayInputStream(bytes), "missing")));
+        assertEquals(
+                list(),
+                read(
+                        JsonDocumentStream.ofField(
+                                new ByteArrayInputStream(
+                                        "{\"results\":[]}".getBytes(StandardCharsets.UTF_8)),
+                                "results")));
+    }
+
+    @Test
+    void utf8StreamSingleBytes() throws Exception {
+        String text = "a€😀é" + SECOND;
+        InputStream in = new JsonDocumentStream.Utf8Stream(new StringReader(text));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[2];
+        for (int b = in.read(); b >= 0; b = in.read()) {
+            out.write(b);
+            int read = in.read(chunk, 0, chunk.length);
+            if (read > 0) {
+                out.write(chunk, 0, read);
+            }
+        }
+
+        assertEquals(text, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static JsonDocumentStream stream(String json) {
+        return new JsonDocumentStream(new StringReader(json));
+    }
+
+    private static List<String> read(JsonDocumentStream stream) throws Exception {
+        List<String> documents = new ArrayList<>();
+        JsonByteWriter writer = new JsonByteWriter();
+        while (stream.next(writer)) {
+            documents.add(writer.toString());
+            writer.reset();
+        }
+        return documents;
+    }
+
+    private static List<String> list(String... documents) {
+        List<String> list = new ArrayList<>();
+        for (String document : documents) {
+            list.add(document);
+        }
+        return list;
+    }
+
+    /** Returns at most a few bytes per read, to split documents across reads */
+    private static class TrickleStream extends InputStream {
+        private final ByteArrayInputStream in;
+        private final int chunk;
+
+        TrickleStream(byte[] bytes, int chunk) {
+            this.in = new ByteArrayInputStream(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, Math.min(len, chunk));
+        }
+    }
+}
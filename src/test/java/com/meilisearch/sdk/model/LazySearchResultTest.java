@@ -0,0 +1,85 @@
+package com.meilisearch.sdk.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.json.JacksonJsonHandler;
+import com.meilisearch.sdk.utils.Movie;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LazySearchResultTest {
+
+    private static final String RESPONSE =
+            "{\"hits\": [ {\"id\":\"1\",\"title\":\"Ad \\\"Astra\\\"\",\"genres\":[\"Drama\"],\"rank\":3},"
+                    + "{\"id\":\"2\",\"title\":\"Caf\\u00e9\",\"nested\":{\"a\":[1,{\"b\":\"]\"}]}} ],"
+                    + "\"query\":\"a\",\"processingTimeMs\":2,\"limit\":20,\"offset\":0,"
+                    + "\"estimatedTotalHits\":42,\"facetDistribution\":{\"genres\":{\"Drama\":1}}}";
+
+    @Test
+    void envelope() throws Exception {
+        LazySearchResult result = new LazySearchResult(RESPONSE, new GsonJsonHandler());
+
+        assertEquals(2, result.getHitCount());
+        assertEquals(2, result.getHits().size());
+        assertEquals("a", result.getQuery());
+        assertEquals(2, result.getProcessingTimeMs());
+        assertEquals(20, result.getLimit());
+        assertEquals(0, result.getOffset());
+        assertEquals(42, result.getEstimatedTotalHits());
+        assertTrue(((Map<?, ?>) result.getFacetDistribution()).containsKey("genres"));
+    }
+
+    @Test
+    void fields() throws Exception {
+        LazySearchResult result = new LazySearchResult(RESPONSE, new GsonJsonHandler());
+        LazyHit first = result.getHit(0);
+        LazyHit second = result.getHits().get(1);
+
+        assertEquals("1", first.getString("id"));
+        assertEquals("Ad \"Astra\"", first.getString("title"));
+        assertEquals("3", first.getString("rank"));
+        assertEquals("[\"Drama\"]", first.getRaw("genres"));
+        assertEquals(Arrays.asList("id", "title", "genres", "rank"), first.getFieldNames());
+        assertTrue(first.has("genres"));
+        assertFalse(first.has("nested"));
+        assertNull(first.getString("nested"));
+        assertEquals("Café", second.getString("title"));
+        assertEquals("{\"a\":[1,{\"b\":\"]\"}]}", second.getRaw("nested"));
+    }
+
+    @Test
+    void decode() throws Exception {
+        LazySearchResult result = new LazySearchResult(RESPONSE, new JacksonJsonHandler());
+        LazyHit first = result.getHit(0);
+
+        Movie movie = first.decode(Movie.class);
+        assertEquals("1", movie.getId());
+        assertEquals("Drama", movie.getGenres()[0]);
+        assertEquals(3, first.get("rank"));
+        assertEquals("Ad \"Astra\"", first.toMap().get("title"));
+        assertArrayEquals(new String[] {"Drama"}, first.get("genres", String[].class));
+    }
+
+    @Test
+    void emptyHits() throws Exception {
+        LazySearchResult result =
+                new LazySearchResult(
+                        "{\"hits\":[],\"facetDistribution\":null,\"query\":\"\"}",
+                        new GsonJsonHandler());
+
+        assertEquals(0, result.getHitCount());
+        assertTrue(result.getHits().isEmpty());
+        assertNull(result.getFacetDistribution());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getHit(0));
+    }
+
+    @Test
+    void invalidResponse() {
+        assertThrows(
+                JsonDecodingException.class,
+                () -> new LazySearchResult("{\"hits\":[{\"id\":1}", new GsonJsonHandler()));
+    }
+}
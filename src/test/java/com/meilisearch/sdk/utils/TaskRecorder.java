@@ -0,0 +1,82 @@
+package com.meilisearch.sdk.utils;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Records the bodies sent through mocked routes and answers with numbered tasks */
+public class TaskRecorder {
+
+    private final GsonJsonHandler jsonHandler = new GsonJsonHandler();
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+
+    public GsonJsonHandler getJsonHandler() {
+        return jsonHandler;
+    }
+
+    /** @return the bodies recorded so far, in order */
+    public List<String> getSent() {
+        return sent;
+    }
+
+    /** Records a body and answers with the task numbered after the count of recorded bodies */
+    public TaskInfo record(HttpBody body) throws IOException, MeilisearchException {
+        return record(text(body));
+    }
+
+    /** Records a body prefixed by the route it was sent to, such as "add" or "update" */
+    public TaskInfo record(String route, HttpBody body) throws IOException, MeilisearchException {
+        return record(route + " " + text(body));
+    }
+
+    /** Records a batch of documents, as sent by batched uploads */
+    public TaskInfo send(byte[] batch) throws MeilisearchException {
+        return record(new String(batch, StandardCharsets.UTF_8));
+    }
+
+    private TaskInfo record(String body) throws MeilisearchException {
+        int taskUid;
+        synchronized (sent) {
+            sent.add(body);
+            taskUid = sent.size();
+        }
+        return taskInfo(taskUid);
+    }
+
+    /** @return the task queries listed so far, in order */
+    public List<String> getQueries() {
+        return queries;
+    }
+
+    /** Records a task query and answers that no task is queued */
+    public TasksResults tasks(TasksQuery query) throws MeilisearchException {
+        queries.add(query.toQuery());
+        return jsonHandler.decode("{\"results\":[]}", TasksResults.class);
+    }
+
+    public TaskInfo taskInfo(int taskUid) throws MeilisearchException {
+        return jsonHandler.decode("{\"taskUid\":" + taskUid + "}", TaskInfo.class);
+    }
+
+    public Task task(int taskUid, String status) throws MeilisearchException {
+        return jsonHandler.decode(
+                "{\"uid\":" + taskUid + ",\"status\":\"" + status + "\"}", Task.class);
+    }
+
+    public static String text(HttpBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}